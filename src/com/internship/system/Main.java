@@ -1,19 +1,95 @@
 package com.internship.system;
 
 import com.internship.system.controller.AppController;
+import com.internship.system.data.DataManager;
+import com.internship.system.server.ApiServer;
+import com.internship.system.server.SessionServer;
+
+import java.io.IOException;
 
 /**
  * Main entry point for the Internship Placement Management System.
- * Initializes and runs the application controller.
+ * Initializes and runs the application controller, or serves many sessions
+ * over TCP when started with {@code --server <port>}, or serves the HTTP/JSON
+ * API when started with {@code --api <port>}.
  */
 public class Main {
     /**
      * Main method that starts the application.
      *
-     * @param args command-line arguments (not used)
+     * @param args command-line arguments ({@code --server <port>} for server mode,
+     *             {@code --api <port>} for the HTTP API)
      */
     public static void main(String[] args) {
+        if (args.length >= 2 && args[0].equals("--server")) {
+            runServer(args[1]);
+            return;
+        }
+        if (args.length >= 2 && args[0].equals("--api")) {
+            runApi(args[1]);
+            return;
+        }
         AppController appController = new AppController();
         appController.run();
     }
+
+    /**
+     * Loads data once and serves sessions over TCP until the process is stopped.
+     * Internships past their closing date are closed each midnight.
+     *
+     * @param portArg the port to listen on
+     */
+    private static void runServer(String portArg) {
+        Integer port = parsePort(portArg);
+        if (port == null) {
+            return;
+        }
+        DataManager dataManager = new DataManager();
+        dataManager.loadAllData();
+        dataManager.startExpiryScheduler();
+        try {
+            new SessionServer(dataManager, port).start();
+        } catch (IOException ex) {
+            System.out.println("Failed to start server: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Loads data once and serves the HTTP/JSON API until the process is stopped.
+     * Internships past their closing date are closed each midnight.
+     * The worker pool size is taken from {@code internship.apiWorkers}
+     * (default: twice the number of processors).
+     *
+     * @param portArg the port to listen on
+     */
+    private static void runApi(String portArg) {
+        Integer port = parsePort(portArg);
+        if (port == null) {
+            return;
+        }
+        DataManager dataManager = new DataManager();
+        dataManager.loadAllData();
+        dataManager.startExpiryScheduler();
+        int workers = Integer.getInteger("internship.apiWorkers", Runtime.getRuntime().availableProcessors() * 2);
+        try {
+            new ApiServer(dataManager, port, workers).start();
+        } catch (IOException ex) {
+            System.out.println("Failed to start API server: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Parses a port argument, printing an error if it is invalid.
+     *
+     * @param portArg the port argument
+     * @return the port, or null if invalid
+     */
+    private static Integer parsePort(String portArg) {
+        try {
+            return Integer.parseInt(portArg);
+        } catch (NumberFormatException ex) {
+            System.out.println("Invalid port: " + portArg);
+            return null;
+        }
+    }
 }
@@ -10,6 +10,7 @@ import com.internship.system.view.MainMenuView;
 import com.internship.system.view.StaffView;
 import com.internship.system.view.StudentView;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Main application controller that orchestrates the overall application flow.
@@ -22,12 +23,36 @@ public class AppController {
     private final MainMenuView mainMenuView;
     /** Controller for authentication operations. */
     private final AuthController authController;
+    /** Notified with the user on login and with null on logout. */
+    private final Consumer<User> loginListener;
 
     /**
      * Constructs a new AppController and initializes its dependencies.
      */
     public AppController() {
-        this.dataManager = new DataManager();
+        this(new DataManager());
+    }
+
+    /**
+     * Constructs a new AppController for one session over a shared DataManager.
+     * Each session gets its own AuthController, so logins do not interfere.
+     *
+     * @param dataManager the shared data manager (already loaded)
+     */
+    public AppController(DataManager dataManager) {
+        this(dataManager, user -> { });
+    }
+
+    /**
+     * Constructs a new AppController for one session over a shared DataManager,
+     * reporting logins and logouts to a listener.
+     *
+     * @param dataManager   the shared data manager (already loaded)
+     * @param loginListener notified with the user on login and with null on logout
+     */
+    public AppController(DataManager dataManager, Consumer<User> loginListener) {
+        this.dataManager = dataManager;
+        this.loginListener = loginListener;
         this.mainMenuView = new MainMenuView();
         this.authController = new AuthController(dataManager);
     }
@@ -38,6 +63,14 @@ public class AppController {
      */
     public void run() {
         dataManager.loadAllData();
+        runSession();
+    }
+
+    /**
+     * Runs the main menu loop for one session without loading data.
+     * Displays menu, handles user choices, and saves data when the user exits.
+     */
+    public void runSession() {
         mainMenuView.displaySplash();
 
         boolean running = true;
@@ -91,8 +124,10 @@ public class AppController {
                 } else {
                     User loggedUser = loggedInOpt.get();
                     mainMenuView.displayLoginSuccess(loggedUser);
+                    loginListener.accept(loggedUser);
                     dispatchUserSession(loggedUser);
                     authController.logout();
+                    loginListener.accept(null);
                 }
 
                 keepTrying = false;
@@ -2,8 +2,10 @@ package com.internship.system.controller;
 
 import com.internship.system.data.DataManager;
 import com.internship.system.model.Application;
+import com.internship.system.model.DecisionResult;
 import com.internship.system.model.FilterCriteria;
 import com.internship.system.model.Internship;
+import com.internship.system.model.Page;
 import com.internship.system.model.enums.ApplicationStatus;
 import com.internship.system.model.enums.InternshipLevel;
 import com.internship.system.model.enums.InternshipStatus;
@@ -11,8 +13,16 @@ import com.internship.system.model.user.CompanyRepresentative;
 import com.internship.system.model.user.Student;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -99,6 +109,36 @@ public class CompanyController {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets one page of internships for the current company, filtered by criteria.
+     *
+     * @param criteria the filtering criteria
+     * @param pageSize maximum number of internships on the page
+     * @param cursor   cursor returned with the previous page, or null for the first page
+     * @return the page of internships belonging to the company, in title order
+     */
+    public Page<Internship> getInternships(FilterCriteria criteria, int pageSize, String cursor) {
+        FilterCriteria companyCriteria = criteria.getCompanyName().isPresent()
+                ? criteria
+                : criteria.toBuilder().companyName(currentRep.getCompanyName()).build();
+        return dataManager.getFilteredInternships(companyCriteria,
+                internship -> internship.getCompanyName().equals(currentRep.getCompanyName()),
+                pageSize,
+                cursor);
+    }
+
+    /**
+     * Completes a typed prefix to the preferred majors of existing internships.
+     *
+     * @param prefix the typed prefix
+     * @param limit  maximum number of majors to return
+     * @return matching majors in alphabetical order
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public List<String> completeMajors(String prefix, int limit) {
+        return dataManager.completeMajors(prefix, limit);
+    }
+
     /**
      * Checks if the representative can create more internships.
      *
@@ -297,6 +337,9 @@ public class CompanyController {
     /**
      * Processes an application by updating its status.
      * Can approve (SUCCESSFUL_PENDING) or reject (UNSUCCESSFUL) applications.
+     * A new offer is only made while the internship has an
+     * {@link DataManager#getOpenOfferSlots(int) open offer slot}. Revoking an accepted placement frees its slot, which is offered to the
+     * next applicant on the internship's waitlist.
      *
      * @param applicationId the application ID
      * @param newStatus     the new status (must be SUCCESSFUL_PENDING or
@@ -314,36 +357,178 @@ public class CompanyController {
         }
         Application application = applicationOpt.get();
 
-        // Cannot process withdrawn applications
-        if (application.getStatus() == ApplicationStatus.PENDING_WITHDRAWN
-                || application.getStatus() == ApplicationStatus.SUCCESSFUL_WITHDRAWN) {
-            return false;
-        }
-
         Optional<Internship> internshipOpt = ensureOwnership(application.getInternshipId());
         if (internshipOpt.isEmpty()) {
             return false;
         }
         Internship internship = internshipOpt.get();
 
-        if (newStatus == ApplicationStatus.SUCCESSFUL_PENDING && !internship.hasAvailableSlots()) {
+        boolean processed = dataManager.withInternshipLock(internship.getInternshipId(), () -> {
+            // Cannot process withdrawn applications; checked under the lock because an
+            // acceptance elsewhere withdraws the student's other applications under it
+            if (application.getStatus() == ApplicationStatus.PENDING_WITHDRAWN
+                    || application.getStatus() == ApplicationStatus.SUCCESSFUL_WITHDRAWN) {
+                return false;
+            }
+            ApplicationStatus oldStatus = application.getStatus();
+            // A new offer needs an open offer slot; an outstanding offer or accepted
+            // placement already holds its share of the capacity
+            boolean newOffer = newStatus == ApplicationStatus.SUCCESSFUL_PENDING
+                    && oldStatus != ApplicationStatus.SUCCESSFUL_PENDING
+                    && oldStatus != ApplicationStatus.SUCCESSFUL_ACCEPTED;
+            if (newOffer && dataManager.getOpenOfferSlots(internship.getInternshipId()) == 0) {
+                return false;
+            }
+
+            application.setStatus(newStatus);
+            application.setWithdrawalRequested(false);
+
+            boolean released = oldStatus == ApplicationStatus.SUCCESSFUL_ACCEPTED
+                    && newStatus != ApplicationStatus.SUCCESSFUL_ACCEPTED
+                    && internship.releaseSlot();
+
+            // An outstanding offer taken back also frees its share of the capacity
+            boolean offerEnded = oldStatus == ApplicationStatus.SUCCESSFUL_PENDING
+                    && newStatus != ApplicationStatus.SUCCESSFUL_PENDING
+                    && newStatus != ApplicationStatus.SUCCESSFUL_ACCEPTED;
+
+            dataManager.updateApplication(application);
+            dataManager.updateInternship(internship);
+            if (released || offerEnded) {
+                dataManager.promoteFromWaitlist(internship.getInternshipId());
+            }
+            return true;
+        });
+        if (!processed) {
             return false;
         }
+        dataManager.saveAllData();
+        return true;
+    }
+
+    /**
+     * Marks many pending applications SUCCESSFUL_PENDING or UNSUCCESSFUL in one
+     * call, saving once at the end. Applications are grouped by internship and each
+     * group is decided under that internship's lock, so offers made in the batch
+     * never exceed the internship's {@link DataManager#getOpenOfferSlots(int) open
+     * offer slots} at that moment; offers beyond that are skipped and the applications
+     * stay PENDING. Only PENDING applications to the
+     * representative's own internships are affected.
+     *
+     * @param applicationIds IDs of the applications, in priority order
+     * @param newStatus      the new status (must be SUCCESSFUL_PENDING or UNSUCCESSFUL)
+     * @return number of applications updated
+     */
+    public int processApplications(Collection<Integer> applicationIds, ApplicationStatus newStatus) {
+        if (newStatus != ApplicationStatus.SUCCESSFUL_PENDING
+                && newStatus != ApplicationStatus.UNSUCCESSFUL) {
+            return 0;
+        }
+        Map<Integer, List<Application>> byInternship = new LinkedHashMap<>();
+        for (Integer applicationId : new LinkedHashSet<>(applicationIds)) {
+            dataManager.findApplicationById(applicationId)
+                    .ifPresent(application -> byInternship
+                            .computeIfAbsent(application.getInternshipId(), id -> new ArrayList<>())
+                            .add(application));
+        }
+        int changed = 0;
+        for (Map.Entry<Integer, List<Application>> entry : byInternship.entrySet()) {
+            int offers = newStatus == ApplicationStatus.SUCCESSFUL_PENDING ? Integer.MAX_VALUE : 0;
+            changed += decidePendingApplications(entry.getKey(), entry.getValue(), offers).getDecided();
+        }
+        if (changed > 0) {
+            dataManager.saveAllData();
+        }
+        return changed;
+    }
+
+    /**
+     * Rank-and-cut for one internship: offers the top {@code offers} pending
+     * applications and rejects every pending application ranked below them, saving
+     * once. Listed applications come first in the given order, followed by any
+     * unlisted pending applications in the order they were submitted. Offers are
+     * capped at the open offer slots, checked under the internship's lock; top-ranked
+     * applications beyond that cap stay PENDING rather than being rejected.
+     *
+     * @param internshipId          the internship ID
+     * @param rankedApplicationIds  application IDs in preference order (may be empty)
+     * @param offers                number of applications to offer
+     * @return offers made, rejections and top-ranked applications left pending; all
+     *         zero if the internship is not owned by the representative
+     */
+    public DecisionResult rankAndCut(int internshipId, List<Integer> rankedApplicationIds, int offers) {
+        if (offers < 0) {
+            throw new IllegalArgumentException("Number of offers cannot be negative");
+        }
+        if (ensureOwnership(internshipId).isEmpty()) {
+            return new DecisionResult(0, 0, 0);
+        }
+        Map<Integer, Application> pending = new LinkedHashMap<>();
+        dataManager.getApplicationsForInternship(internshipId).stream()
+                .filter(application -> application.getStatus() == ApplicationStatus.PENDING)
+                .sorted(Comparator.comparingInt(Application::getApplicationId))
+                .forEach(application -> pending.put(application.getApplicationId(), application));
 
-        ApplicationStatus oldStatus = application.getStatus();
-        application.setStatus(newStatus);
-        application.setWithdrawalRequested(false);
+        List<Application> ranked = new ArrayList<>();
+        for (Integer applicationId : rankedApplicationIds) {
+            Application application = pending.remove(applicationId);
+            if (application != null) {
+                ranked.add(application);
+            }
+        }
+        ranked.addAll(pending.values());
 
-        if (oldStatus == ApplicationStatus.SUCCESSFUL_ACCEPTED
-                && newStatus != ApplicationStatus.SUCCESSFUL_ACCEPTED
-                && internship.getConfirmedOffers() > 0) {
-            internship.revokeConfirmedOffer();
+        DecisionResult result = decidePendingApplications(internshipId, ranked, offers);
+        if (result.getDecided() > 0) {
+            dataManager.saveAllData();
         }
+        return result;
+    }
 
-        dataManager.updateApplication(application);
-        dataManager.updateInternship(internship);
-        dataManager.saveAllData();
-        return true;
+    /**
+     * Decides pending applications of one internship under its lock, without saving.
+     * Still-PENDING candidates are taken in order: the first {@code offers} of them
+     * are offered while the internship has {@link DataManager#getOpenOfferSlots(int)
+     * open offer slots} and left PENDING once it has none; every candidate after
+     * them is marked UNSUCCESSFUL. Applications no longer PENDING are skipped.
+     *
+     * @param internshipId the internship ID
+     * @param candidates   applications to decide, in priority order
+     * @param offers       number of candidates to offer; the rest are rejected
+     * @return offers made, rejections and candidates left pending
+     */
+    private DecisionResult decidePendingApplications(int internshipId, List<Application> candidates, int offers) {
+        if (ensureOwnership(internshipId).isEmpty()) {
+            return new DecisionResult(0, 0, 0);
+        }
+        return dataManager.withInternshipLock(internshipId, () -> {
+            int offerBudget = dataManager.getOpenOfferSlots(internshipId);
+            Set<Integer> decided = new HashSet<>();
+            int chosen = 0;
+            int offered = 0;
+            int rejected = 0;
+            int leftPending = 0;
+            for (Application application : candidates) {
+                if (application.getStatus() != ApplicationStatus.PENDING || !decided.add(application.getApplicationId())) {
+                    continue;
+                }
+                if (chosen < offers) {
+                    chosen++;
+                    if (offered == offerBudget) {
+                        leftPending++;
+                        continue;
+                    }
+                    application.setStatus(ApplicationStatus.SUCCESSFUL_PENDING);
+                    offered++;
+                } else {
+                    application.setStatus(ApplicationStatus.UNSUCCESSFUL);
+                    rejected++;
+                }
+                application.setWithdrawalRequested(false);
+                dataManager.updateApplication(application);
+            }
+            return new DecisionResult(offered, rejected, leftPending);
+        });
     }
 
     /**
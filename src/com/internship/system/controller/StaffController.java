@@ -1,16 +1,29 @@
 package com.internship.system.controller;
 
 import com.internship.system.data.DataManager;
+import com.internship.system.model.AllocationReport;
+import com.internship.system.model.AllocationResult;
 import com.internship.system.model.Application;
 import com.internship.system.model.FilterCriteria;
+import com.internship.system.model.ImportReport;
 import com.internship.system.model.Internship;
+import com.internship.system.model.Page;
+import com.internship.system.model.PlacementDashboard;
 import com.internship.system.model.enums.ApplicationStatus;
 import com.internship.system.model.enums.InternshipStatus;
 import com.internship.system.model.user.CareerCenterStaff;
 import com.internship.system.model.user.CompanyRepresentative;
 import com.internship.system.model.user.Student;
+import com.internship.system.util.ReportWriter;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,6 +33,15 @@ import java.util.stream.Collectors;
  * withdrawal request processing.
  */
 public class StaffController {
+    /** Internships read per page while exporting a report. */
+    private static final int EXPORT_PAGE_SIZE = 1000;
+    /** Columns of an exported report, before one count column per application status. */
+    private static final List<String> EXPORT_COLUMNS = List.of(
+            "internshipId", "title", "companyName", "level", "status", "preferredMajor",
+            "openingDate", "closingDate", "slots", "confirmedOffers", "visible",
+            "representativeId", "representativeName", "representativeDepartment", "representativePosition",
+            "applications");
+
     /** Data manager for accessing system data. */
     private final DataManager dataManager;
     /** The currently logged-in staff member. */
@@ -102,10 +124,167 @@ public class StaffController {
         return true;
     }
 
+    /**
+     * Approves every listed internship that is still pending, under one
+     * transaction and with a single save.
+     *
+     * @param internshipIds IDs of the internships to approve
+     * @return number of internships approved (unknown or non-pending IDs are skipped)
+     */
+    public int approveInternships(Collection<Integer> internshipIds) {
+        return decidePendingInternships(internshipIds, true);
+    }
+
+    /**
+     * Rejects every listed internship that is still pending, under one
+     * transaction and with a single save.
+     *
+     * @param internshipIds IDs of the internships to reject
+     * @return number of internships rejected (unknown or non-pending IDs are skipped)
+     */
+    public int rejectInternships(Collection<Integer> internshipIds) {
+        return decidePendingInternships(internshipIds, false);
+    }
+
+    /**
+     * Gets every pending internship matching the criteria (e.g. all pending
+     * postings of one company), so a bulk decision can be previewed before it is
+     * made. The status clause of the criteria is replaced by PENDING.
+     *
+     * @param criteria the filtering criteria
+     * @return matching pending internships
+     */
+    public List<Internship> getPendingInternships(FilterCriteria criteria) {
+        return dataManager.getFilteredInternships(criteria.toBuilder().status(InternshipStatus.PENDING).build());
+    }
+
+    /**
+     * Imports a new cohort of students from a CSV file in the student_list.csv
+     * layout, without restarting. Invalid and duplicate rows are reported, not imported.
+     *
+     * @param file the CSV file
+     * @return the import report
+     * @throws IllegalArgumentException if the file does not exist
+     */
+    public ImportReport importStudents(Path file) {
+        return dataManager.importStudents(file);
+    }
+
+    /**
+     * Imports company representatives from a CSV file in the
+     * company_representative_list.csv layout.
+     *
+     * @param file the CSV file
+     * @return the import report
+     * @throws IllegalArgumentException if the file does not exist
+     */
+    public ImportReport importCompanyRepresentatives(Path file) {
+        return dataManager.importCompanyRepresentatives(file);
+    }
+
+    /**
+     * Imports internships from a CSV file in the internships.csv layout.
+     * Imported internships get new IDs.
+     *
+     * @param file the CSV file
+     * @return the import report
+     * @throws IllegalArgumentException if the file does not exist
+     */
+    public ImportReport importInternships(Path file) {
+        return dataManager.importInternships(file);
+    }
+
+    /**
+     * Plans a placement allocation round over all PENDING applications without
+     * changing anything.
+     *
+     * @return the dry-run report
+     */
+    public AllocationReport planAllocation() {
+        return dataManager.planAllocation();
+    }
+
+    /**
+     * Commits a planned allocation round: each planned application still PENDING
+     * becomes SUCCESSFUL_PENDING. Each offer is made under its student's lock and
+     * its internship's lock, after checking again, as at planning time, that the
+     * student holds no offer or placement and that the internship has an
+     * {@link DataManager#getOpenOfferSlots(int) open offer slot} left. Both checks
+     * read running counts rather than scanning applications, and each offer made
+     * is counted at once. Applications that fail a check are skipped and counted;
+     * applications left unmatched stay PENDING on the waitlist. Everything is
+     * saved once.
+     *
+     * @param report the report from {@link #planAllocation()}
+     * @return offers made and applications skipped
+     */
+    public AllocationResult commitAllocation(AllocationReport report) {
+        int offered = 0;
+        int skippedDecided = 0;
+        int skippedPlaced = 0;
+        int skippedFull = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : report.getOffersByInternship().entrySet()) {
+            int internshipId = entry.getKey();
+            for (Integer applicationId : entry.getValue()) {
+                Optional<Application> applicationOpt = dataManager.findApplicationById(applicationId);
+                if (applicationOpt.isEmpty()) {
+                    skippedDecided++;
+                    continue;
+                }
+                Application application = applicationOpt.get();
+                AllocationStep step = dataManager.withStudentLock(application.getStudentId(),
+                        () -> dataManager.withInternshipLock(internshipId, () -> {
+                            if (application.getStatus() != ApplicationStatus.PENDING) {
+                                return AllocationStep.DECIDED;
+                            }
+                            if (dataManager.holdsOfferOrPlacement(application.getStudentId())) {
+                                return AllocationStep.PLACED;
+                            }
+                            if (dataManager.getOpenOfferSlots(internshipId) == 0) {
+                                return AllocationStep.FULL;
+                            }
+                            application.setStatus(ApplicationStatus.SUCCESSFUL_PENDING);
+                            dataManager.updateApplication(application);
+                            return AllocationStep.OFFERED;
+                        }));
+                switch (step) {
+                    case OFFERED -> offered++;
+                    case DECIDED -> skippedDecided++;
+                    case PLACED -> skippedPlaced++;
+                    case FULL -> skippedFull++;
+                }
+            }
+        }
+        if (offered > 0) {
+            dataManager.saveAllData();
+        }
+        return new AllocationResult(offered, skippedDecided, skippedPlaced, skippedFull);
+    }
+
     public List<Application> getPendingWithdrawalRequests() {
-        return dataManager.getApplications().stream()
-                .filter(Application::isWithdrawalRequested)
-                .collect(Collectors.toList());
+        return dataManager.getWithdrawalRequests();
+    }
+
+    /**
+     * Approves every listed withdrawal request. Applications are withdrawn and
+     * the confirmed offers they held are revoked one internship at a time, each in a
+     * single pass under that internship's lock, and all changes are saved once.
+     *
+     * @param applicationIds IDs of the applications
+     * @return number of requests approved (IDs without a request are skipped)
+     */
+    public int approveWithdrawalRequests(Collection<Integer> applicationIds) {
+        return decideWithdrawalRequests(applicationIds, true);
+    }
+
+    /**
+     * Rejects every listed withdrawal request, saving once.
+     *
+     * @param applicationIds IDs of the applications
+     * @return number of requests rejected (IDs without a request are skipped)
+     */
+    public int rejectWithdrawalRequests(Collection<Integer> applicationIds) {
+        return decideWithdrawalRequests(applicationIds, false);
     }
 
     public boolean processWithdrawalRequest(int applicationId, boolean approve) {
@@ -114,35 +293,226 @@ public class StaffController {
             return false;
         }
         Application application = applicationOpt.get();
-        if (!application.isWithdrawalRequested()) {
-            return false;
-        }
 
-        if (approve) {
+        boolean decided = dataManager.withInternshipLock(application.getInternshipId(), () -> {
+            // Checked under the internship's lock: another staff session may have decided it meanwhile
+            if (!application.isWithdrawalRequested()) {
+                return false;
+            }
             ApplicationStatus oldStatus = application.getStatus();
+            if (approve) {
+                application.setStatus(ApplicationStatus.SUCCESSFUL_WITHDRAWN);
+            }
+            application.setWithdrawalRequested(false);
+            dataManager.updateApplication(application);
 
-            application.setStatus(ApplicationStatus.SUCCESSFUL_WITHDRAWN);
-
-            if (oldStatus == ApplicationStatus.SUCCESSFUL_ACCEPTED) {
+            if (approve && oldStatus == ApplicationStatus.SUCCESSFUL_PENDING) {
+                dataManager.promoteFromWaitlist(application.getInternshipId());
+            }
+            if (approve && oldStatus == ApplicationStatus.SUCCESSFUL_ACCEPTED) {
                 dataManager.findInternshipById(application.getInternshipId())
                         .ifPresent(internship -> {
-                            if (internship.getConfirmedOffers() > 0) {
-                                internship.revokeConfirmedOffer();
+                            if (internship.releaseSlot()) {
                                 dataManager.updateInternship(internship);
+                                dataManager.promoteFromWaitlist(internship.getInternshipId());
                             }
                         });
             }
+            return true;
+        });
+        if (!decided) {
+            return false;
         }
-        application.setWithdrawalRequested(false);
-        dataManager.updateApplication(application);
         dataManager.saveAllData();
         return true;
     }
 
+    /**
+     * Searches all internships matching the criteria by keyword, best match first.
+     *
+     * @param keywords the keywords to look for in titles and descriptions
+     * @param criteria the filtering criteria
+     * @param limit    maximum number of internships to return
+     * @return at most limit internships, best match first
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public List<Internship> searchInternships(String keywords, FilterCriteria criteria, int limit) {
+        return dataManager.searchInternships(keywords, criteria, internship -> true, limit);
+    }
+
+    /**
+     * Completes a typed prefix to the company names of existing internships.
+     *
+     * @param prefix the typed prefix
+     * @param limit  maximum number of names to return
+     * @return matching company names in alphabetical order
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public List<String> completeCompanyNames(String prefix, int limit) {
+        return dataManager.completeCompanyNames(prefix, limit);
+    }
+
+    /**
+     * Completes a typed prefix to the preferred majors of existing internships.
+     *
+     * @param prefix the typed prefix
+     * @param limit  maximum number of majors to return
+     * @return matching majors in alphabetical order
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public List<String> completeMajors(String prefix, int limit) {
+        return dataManager.completeMajors(prefix, limit);
+    }
+
+    /**
+     * Gets the placement dashboard, built from running totals.
+     *
+     * @return the dashboard
+     */
+    public PlacementDashboard getPlacementDashboard() {
+        return dataManager.getPlacementDashboard();
+    }
+
+    /**
+     * Gets the number of student browse queries answered from the query cache.
+     *
+     * @return the cache hit count
+     */
+    public long getQueryCacheHits() {
+        return dataManager.getQueryCacheHits();
+    }
+
+    /**
+     * Gets the number of student browse queries that missed the query cache.
+     *
+     * @return the cache miss count
+     */
+    public long getQueryCacheMisses() {
+        return dataManager.getQueryCacheMisses();
+    }
+
+    /**
+     * Gets the fraction of student browse queries answered from the query cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if no queries have been made
+     */
+    public double getQueryCacheHitRate() {
+        return dataManager.getQueryCacheHitRate();
+    }
+
+    /**
+     * Gets the number of applications for an internship in each status.
+     *
+     * @param internshipId the internship ID
+     * @return map with an entry for every status
+     */
+    public Map<ApplicationStatus, Integer> getApplicationCounts(int internshipId) {
+        return dataManager.getApplicationCounts(internshipId);
+    }
+
+    /**
+     * Exports a filtered report to a file, one row per internship in title order,
+     * joined with its representative and its number of applications in total and
+     * per status. Rows are read a page at a time and written straight to a
+     * buffered writer, so memory use does not grow with the size of the report.
+     *
+     * @param criteria the filtering criteria
+     * @param file     the output file, created or overwritten
+     * @param format   the output format
+     * @return number of rows written
+     * @throws IllegalArgumentException if the file is one of the data files
+     * @throws RuntimeException         if the file cannot be written
+     */
+    public long exportReport(FilterCriteria criteria, Path file, ReportWriter.Format format) {
+        if (dataManager.isDataFile(file)) {
+            throw new IllegalArgumentException("Cannot export over the data file " + file);
+        }
+        List<String> columns = new ArrayList<>(EXPORT_COLUMNS);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            columns.add(exportColumn(status));
+        }
+        try (ReportWriter writer = new ReportWriter(file, format, columns)) {
+            String cursor = null;
+            do {
+                Page<Internship> page = dataManager.getFilteredInternships(criteria, EXPORT_PAGE_SIZE, cursor);
+                for (Internship internship : page.getItems()) {
+                    writer.writeRow(exportRow(internship));
+                }
+                cursor = page.getNextCursor().orElse(null);
+            } while (cursor != null);
+            return writer.getRowsWritten();
+        }
+    }
+
+    private List<Object> exportRow(Internship internship) {
+        Optional<CompanyRepresentative> rep =
+                dataManager.findCompanyRepresentativeById(internship.getRepresentativeInChargeId());
+        Map<ApplicationStatus, Integer> counts = dataManager.getApplicationCounts(internship.getInternshipId());
+        List<Object> row = new ArrayList<>(EXPORT_COLUMNS.size() + counts.size());
+        row.add(internship.getInternshipId());
+        row.add(internship.getTitle());
+        row.add(internship.getCompanyName());
+        row.add(internship.getLevel());
+        row.add(internship.getStatus());
+        row.add(internship.getPreferredMajor());
+        row.add(internship.getOpeningDate());
+        row.add(internship.getClosingDate());
+        row.add(internship.getSlots());
+        row.add(internship.getConfirmedOffers());
+        row.add(internship.isVisible());
+        row.add(internship.getRepresentativeInChargeId());
+        row.add(rep.map(CompanyRepresentative::getName).orElse(null));
+        row.add(rep.map(CompanyRepresentative::getDepartment).orElse(null));
+        row.add(rep.map(CompanyRepresentative::getPosition).orElse(null));
+        row.add(counts.values().stream().mapToInt(Integer::intValue).sum());
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            row.add(counts.get(status));
+        }
+        return row;
+    }
+
+    /**
+     * Names the export column counting applications in a status, e.g.
+     * {@code successfulPending} for SUCCESSFUL_PENDING.
+     *
+     * @param status the application status
+     * @return the column name
+     */
+    private static String exportColumn(ApplicationStatus status) {
+        StringBuilder name = new StringBuilder();
+        for (String part : status.name().toLowerCase(Locale.ROOT).split("_")) {
+            name.append(name.length() == 0 ? part : Character.toUpperCase(part.charAt(0)) + part.substring(1));
+        }
+        return name.toString();
+    }
+
     public List<Internship> generateReport(FilterCriteria criteria) {
         return dataManager.getFilteredInternships(criteria);
     }
 
+    /**
+     * Generates one page of a filtered report.
+     *
+     * @param criteria the filtering criteria
+     * @param pageSize maximum number of internships on the page
+     * @param cursor   cursor returned with the previous page, or null for the first page
+     * @return the page of matching internships, in title order
+     */
+    public Page<Internship> generateReport(FilterCriteria criteria, int pageSize, String cursor) {
+        return dataManager.getFilteredInternships(criteria, pageSize, cursor);
+    }
+
+    /**
+     * Explains how a report with the given criteria is evaluated.
+     * Useful when diagnosing slow reports.
+     *
+     * @param criteria the filtering criteria
+     * @return the query plan description
+     */
+    public String explainReport(FilterCriteria criteria) {
+        return dataManager.explainFilteredInternships(criteria);
+    }
+
     /**
      * Gets the company name for a given internship ID.
      *
@@ -202,4 +572,112 @@ public class StaffController {
                 .map(Student::getYearOfStudy)
                 .orElse(-1);
     }
+
+    /**
+     * Approves or rejects the listed withdrawal requests, grouped by internship.
+     * Each group is decided under the internship's lock, releasing one slot per
+     * revoked acceptance and updating the internship once; each freed slot is
+     * offered to the next applicant on the waitlist. Everything is saved once.
+     *
+     * @param applicationIds IDs of the applications
+     * @param approve        true to withdraw the applications, false to keep them
+     * @return number of requests decided
+     */
+    private int decideWithdrawalRequests(Collection<Integer> applicationIds, boolean approve) {
+        Map<Integer, List<Application>> byInternship = new LinkedHashMap<>();
+        for (Integer applicationId : new LinkedHashSet<>(applicationIds)) {
+            dataManager.findApplicationById(applicationId)
+                    .filter(Application::isWithdrawalRequested)
+                    .ifPresent(application -> byInternship
+                            .computeIfAbsent(application.getInternshipId(), id -> new ArrayList<>())
+                            .add(application));
+        }
+
+        int changed = 0;
+        for (Map.Entry<Integer, List<Application>> entry : byInternship.entrySet()) {
+            changed += dataManager.withInternshipLock(entry.getKey(), () -> {
+                int decided = 0;
+                int revoked = 0;
+                int offersEnded = 0;
+                for (Application application : entry.getValue()) {
+                    if (!application.isWithdrawalRequested()) {
+                        continue;
+                    }
+                    if (approve) {
+                        if (application.getStatus() == ApplicationStatus.SUCCESSFUL_ACCEPTED) {
+                            revoked++;
+                        } else if (application.getStatus() == ApplicationStatus.SUCCESSFUL_PENDING) {
+                            offersEnded++;
+                        }
+                        application.setStatus(ApplicationStatus.SUCCESSFUL_WITHDRAWN);
+                    }
+                    application.setWithdrawalRequested(false);
+                    dataManager.updateApplication(application);
+                    decided++;
+                }
+                for (int i = 0; i < offersEnded; i++) {
+                    dataManager.promoteFromWaitlist(entry.getKey());
+                }
+                if (revoked > 0) {
+                    Optional<Internship> internshipOpt = dataManager.findInternshipById(entry.getKey());
+                    if (internshipOpt.isPresent()) {
+                        Internship internship = internshipOpt.get();
+                        int released = 0;
+                        for (int i = 0; i < revoked; i++) {
+                            if (internship.releaseSlot()) {
+                                released++;
+                            }
+                        }
+                        dataManager.updateInternship(internship);
+                        for (int i = 0; i < released; i++) {
+                            dataManager.promoteFromWaitlist(internship.getInternshipId());
+                        }
+                    }
+                }
+                return decided;
+            });
+        }
+        if (changed > 0) {
+            dataManager.saveAllData();
+        }
+        return changed;
+    }
+
+    /**
+     * Approves or rejects the listed internships that are still pending.
+     * All changes are applied in one transaction, then saved once.
+     *
+     * @param internshipIds IDs of the internships
+     * @param approve       true to approve and make visible, false to reject and hide
+     * @return number of internships changed
+     */
+    private int decidePendingInternships(Collection<Integer> internshipIds, boolean approve) {
+        List<Integer> ids = new ArrayList<>(internshipIds);
+        int changed = dataManager.inTransaction(() -> {
+            int count = 0;
+            for (Integer internshipId : ids) {
+                Optional<Internship> internshipOpt = dataManager.findInternshipById(internshipId);
+                if (internshipOpt.isEmpty() || internshipOpt.get().getStatus() != InternshipStatus.PENDING) {
+                    continue;
+                }
+                Internship internship = internshipOpt.get();
+                internship.setStatus(approve ? InternshipStatus.APPROVED : InternshipStatus.REJECTED);
+                internship.setVisible(approve);
+                dataManager.updateInternship(internship);
+                count++;
+            }
+            return count;
+        });
+        if (changed > 0) {
+            dataManager.saveAllData();
+        }
+        return changed;
+    }
+
+    /**
+     * What happened to one planned application when an allocation round was committed.
+     */
+    private enum AllocationStep {
+        OFFERED, DECIDED, PLACED, FULL
+    }
 }
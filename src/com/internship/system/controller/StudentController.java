@@ -4,14 +4,16 @@ import com.internship.system.data.DataManager;
 import com.internship.system.model.Application;
 import com.internship.system.model.FilterCriteria;
 import com.internship.system.model.Internship;
+import com.internship.system.model.Page;
+import com.internship.system.model.Recommendation;
 import com.internship.system.model.enums.ApplicationStatus;
-import com.internship.system.model.enums.InternshipLevel;
-import com.internship.system.model.enums.InternshipStatus;
 import com.internship.system.model.user.Student;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -43,18 +45,61 @@ public class StudentController {
     }
 
     public List<Internship> getVisibleInternships(FilterCriteria criteria) {
-        LocalDate today = LocalDate.now();
-        List<Internship> filteredInternships = dataManager.getFilteredInternships(criteria);
-
-        return filteredInternships.stream()
-                .filter(internship -> internship.getStatus() == InternshipStatus.APPROVED)
-                .filter(Internship::isVisible)
-                .filter(Internship::hasAvailableSlots)
-                .filter(internship -> internship.isOpenOn(today))
-                .filter(this::isLevelEligible)
-                .filter(this::isMajorEligible)
-                .sorted((a, b) -> a.getTitle().compareToIgnoreCase(b.getTitle()))
-                .collect(Collectors.toList());
+        return dataManager.getEligibleInternships(criteria, currentStudent);
+    }
+
+    /**
+     * Gets one page of internships the student can apply to, in title order.
+     *
+     * @param criteria the filtering criteria
+     * @param pageSize maximum number of internships on the page
+     * @param cursor   cursor returned with the previous page, or null for the first page
+     * @return the page of eligible internships
+     */
+    public Page<Internship> getVisibleInternships(FilterCriteria criteria, int pageSize, String cursor) {
+        return dataManager.getEligibleInternships(criteria, currentStudent, pageSize, cursor);
+    }
+
+    /**
+     * Gets the internships the student can apply to, ranked by fit for the
+     * student, excluding those already applied to.
+     *
+     * @param criteria the filtering criteria
+     * @param n        maximum number of recommendations
+     * @return at most n recommendations, best first
+     * @throws IllegalArgumentException if n is not positive
+     */
+    public List<Recommendation> getRecommendedInternships(FilterCriteria criteria, int n) {
+        Set<Integer> appliedIds = viewAppliedInternships().stream()
+                .map(Application::getInternshipId)
+                .collect(Collectors.toSet());
+        return dataManager.getRecommendedInternships(criteria, currentStudent,
+                internship -> !appliedIds.contains(internship.getInternshipId()), n);
+    }
+
+    /**
+     * Searches the internships the student can apply to by keyword, best match first.
+     *
+     * @param keywords the keywords to look for in titles and descriptions
+     * @param criteria the filtering criteria
+     * @param limit    maximum number of internships to return
+     * @return at most limit eligible internships, best match first
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public List<Internship> searchInternships(String keywords, FilterCriteria criteria, int limit) {
+        return dataManager.searchInternships(keywords, criteria, this::canApplyToInternship, limit);
+    }
+
+    /**
+     * Completes a typed prefix to the preferred majors of existing internships.
+     *
+     * @param prefix the typed prefix
+     * @param limit  maximum number of majors to return
+     * @return matching majors in alphabetical order
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public List<String> completeMajors(String prefix, int limit) {
+        return dataManager.completeMajors(prefix, limit);
     }
 
     public List<Application> viewAppliedInternships() {
@@ -116,112 +161,133 @@ public class StudentController {
         return true;
     }
 
+    /**
+     * Gets a PENDING application's place on its internship's waitlist.
+     *
+     * @param application the application
+     * @return 1 for the next applicant to be offered a freed slot, or 0 if not waitlisted
+     */
+    public int getWaitlistPosition(Application application) {
+        return dataManager.getWaitlistPosition(application);
+    }
+
+    /**
+     * Gets the time an outstanding offer expires if not answered.
+     *
+     * @param application the application
+     * @return the deadline, or empty if there is no outstanding offer or offers do not expire
+     */
+    public Optional<Instant> getOfferDeadline(Application application) {
+        return dataManager.getOfferDeadline(application);
+    }
+
+    /**
+     * Accepts an outstanding offer and withdraws the student's other applications.
+     * The whole decision runs under the student's lock, so two sessions of the
+     * same student cannot each accept a different offer, and every status change
+     * runs under the lock of the application's internship.
+     *
+     * @param applicationId the application holding the offer
+     * @return true if the offer was accepted
+     */
     public boolean acceptOffer(int applicationId) {
-        Optional<Application> applicationOpt = dataManager.findApplicationById(applicationId);
+        Optional<Application> applicationOpt = findOwnApplication(applicationId);
         if (applicationOpt.isEmpty()) {
             return false;
         }
         Application application = applicationOpt.get();
-        if (!application.getStudentId().equals(currentStudent.getUserId())) {
-            return false;
-        }
-        if (application.getStatus() != ApplicationStatus.SUCCESSFUL_PENDING) {
-            return false;
-        }
-        if (hasAcceptedOffer()) {
+
+        boolean accepted = dataManager.withStudentLock(currentStudent.getUserId(), () -> {
+            // Checked under the student's lock: another session may have accepted an offer meanwhile
+            if (hasAcceptedOffer()) {
+                return false;
+            }
+            boolean reserved = dataManager.withInternshipLock(application.getInternshipId(), () -> {
+                // Re-check under the internship's lock: the offer may have been rejected,
+                // expired or withdrawn, or another session may have taken the last slot
+                if (application.getStatus() != ApplicationStatus.SUCCESSFUL_PENDING) {
+                    return false;
+                }
+                Optional<Internship> internshipOpt = dataManager.findInternshipById(application.getInternshipId());
+                if (internshipOpt.isEmpty() || !internshipOpt.get().tryReserveSlot()) {
+                    return false;
+                }
+                dataManager.updateInternship(internshipOpt.get());
+
+                application.setStatus(ApplicationStatus.SUCCESSFUL_ACCEPTED);
+                dataManager.updateApplication(application);
+                return true;
+            });
+            if (reserved) {
+                withdrawOtherApplications(applicationId);
+            }
+            return reserved;
+        });
+        if (!accepted) {
             return false;
         }
 
-        application.setStatus(ApplicationStatus.SUCCESSFUL_ACCEPTED);
-        dataManager.updateApplication(application);
-
-        dataManager.findInternshipById(application.getInternshipId())
-                .ifPresent(internship -> {
-                    internship.registerConfirmedOffer();
-                    dataManager.updateInternship(internship);
-                });
-
-        withdrawOtherApplications(applicationId);
-
         dataManager.saveAllData();
         return true;
     }
 
+    /**
+     * Rejects an outstanding offer. The status is re-checked and changed under
+     * the internship's lock, so a concurrent acceptance that has reserved a slot
+     * is never overwritten.
+     *
+     * @param applicationId the application holding the offer
+     * @return true if the offer was rejected
+     */
     public boolean rejectOffer(int applicationId) {
-        Optional<Application> applicationOpt = dataManager.findApplicationById(applicationId);
+        Optional<Application> applicationOpt = findOwnApplication(applicationId);
         if (applicationOpt.isEmpty()) {
             return false;
         }
         Application application = applicationOpt.get();
-        if (!application.getStudentId().equals(currentStudent.getUserId())) {
-            return false;
-        }
-        if (application.getStatus() != ApplicationStatus.SUCCESSFUL_PENDING) {
+
+        boolean rejected = dataManager.withStudentLock(currentStudent.getUserId(),
+                () -> dataManager.withInternshipLock(application.getInternshipId(), () -> {
+                    if (application.getStatus() != ApplicationStatus.SUCCESSFUL_PENDING) {
+                        return false;
+                    }
+                    application.setStatus(ApplicationStatus.SUCCESSFUL_REJECTED);
+                    dataManager.updateApplication(application);
+                    dataManager.promoteFromWaitlist(application.getInternshipId());
+                    return true;
+                }));
+        if (!rejected) {
             return false;
         }
-
-        application.setStatus(ApplicationStatus.SUCCESSFUL_REJECTED);
-        dataManager.updateApplication(application);
         dataManager.saveAllData();
         return true;
     }
 
     public boolean withdrawApplication(int applicationId) {
-        Optional<Application> applicationOpt = dataManager.findApplicationById(applicationId);
+        Optional<Application> applicationOpt = findOwnApplication(applicationId);
         if (applicationOpt.isEmpty()) {
             return false;
         }
         Application application = applicationOpt.get();
-        if (!application.getStudentId().equals(currentStudent.getUserId())) {
-            return false;
-        }
 
-        if (application.getStatus() != ApplicationStatus.SUCCESSFUL_ACCEPTED) {
-            return false;
-        }
-
-        if (application.isWithdrawalRequested()) {
+        boolean requested = dataManager.withInternshipLock(application.getInternshipId(), () -> {
+            if (application.getStatus() != ApplicationStatus.SUCCESSFUL_ACCEPTED
+                    || application.isWithdrawalRequested()) {
+                return false;
+            }
+            application.setWithdrawalRequested(true);
+            dataManager.updateApplication(application);
+            return true;
+        });
+        if (!requested) {
             return false;
         }
-
-        application.setWithdrawalRequested(true);
-        dataManager.updateApplication(application);
         dataManager.saveAllData();
         return true;
     }
 
     private boolean canApplyToInternship(Internship internship) {
-        if (internship.getStatus() != InternshipStatus.APPROVED) {
-            return false;
-        }
-        if (!internship.isVisible()) {
-            return false;
-        }
-        if (!internship.hasAvailableSlots()) {
-            return false;
-        }
-        if (!internship.isOpenOn(LocalDate.now())) {
-            return false;
-        }
-        if (!isLevelEligible(internship)) {
-            return false;
-        }
-        return isMajorEligible(internship);
-    }
-
-    private boolean isLevelEligible(Internship internship) {
-        InternshipLevel level = internship.getLevel();
-        int year = currentStudent.getYearOfStudy();
-        if (year <= 2) {
-            return level == InternshipLevel.BASIC;
-        }
-        return true;
-    }
-
-    private boolean isMajorEligible(Internship internship) {
-        String studentMajor = currentStudent.getMajor();
-        String preferredMajor = internship.getPreferredMajor();
-        return preferredMajor != null && preferredMajor.equalsIgnoreCase(studentMajor);
+        return internship.isEligibleFor(currentStudent, LocalDate.now());
     }
 
     private boolean hasReachedApplicationLimit() {
@@ -239,22 +305,46 @@ public class StudentController {
                 .anyMatch(app -> app.getStatus() == ApplicationStatus.SUCCESSFUL_ACCEPTED);
     }
 
+    /**
+     * Finds one of the current student's applications.
+     *
+     * @param applicationId the application ID
+     * @return the application, or empty if not found or owned by another student
+     */
+    private Optional<Application> findOwnApplication(int applicationId) {
+        return dataManager.findApplicationById(applicationId)
+                .filter(application -> application.getStudentId().equals(currentStudent.getUserId()));
+    }
+
+    /**
+     * Withdraws the student's other open applications after an acceptance.
+     * Each status is re-checked and changed under its internship's lock.
+     *
+     * @param acceptedApplicationId the accepted application, which is kept
+     */
     private void withdrawOtherApplications(int acceptedApplicationId) {
         List<Application> studentApplications = viewAppliedInternships();
         for (Application application : studentApplications) {
             if (application.getApplicationId() == acceptedApplicationId) {
                 continue;
             }
-            if (application.getStatus() == ApplicationStatus.PENDING) {
-                application.setStatus(ApplicationStatus.PENDING_WITHDRAWN);
-                application.setWithdrawalRequested(false);
-                dataManager.updateApplication(application);
-            } else if (application.getStatus() == ApplicationStatus.SUCCESSFUL_PENDING
-                    || application.getStatus() == ApplicationStatus.SUCCESSFUL_REJECTED) {
-                application.setStatus(ApplicationStatus.SUCCESSFUL_WITHDRAWN);
-                application.setWithdrawalRequested(false);
-                dataManager.updateApplication(application);
-            }
+            dataManager.withInternshipLock(application.getInternshipId(), () -> {
+                if (application.getStatus() == ApplicationStatus.PENDING) {
+                    application.setStatus(ApplicationStatus.PENDING_WITHDRAWN);
+                    application.setWithdrawalRequested(false);
+                    dataManager.updateApplication(application);
+                } else if (application.getStatus() == ApplicationStatus.SUCCESSFUL_PENDING
+                        || application.getStatus() == ApplicationStatus.SUCCESSFUL_REJECTED) {
+                    boolean offerEnded = application.getStatus() == ApplicationStatus.SUCCESSFUL_PENDING;
+                    application.setStatus(ApplicationStatus.SUCCESSFUL_WITHDRAWN);
+                    application.setWithdrawalRequested(false);
+                    dataManager.updateApplication(application);
+                    if (offerEnded) {
+                        dataManager.promoteFromWaitlist(application.getInternshipId());
+                    }
+                }
+                return null;
+            });
         }
     }
 }
@@ -0,0 +1,157 @@
+package com.internship.system.data;
+
+import com.internship.system.model.AllocationReport;
+import com.internship.system.model.Application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Student-proposing deferred-acceptance match of PENDING applications to open
+ * internship slots. A student prefers internships in the order they applied; an
+ * internship prefers applications first come, first served. Each round, every
+ * free student proposes to their next choice, and each internship keeps its best
+ * proposals up to its open slots and turns the rest away. Internships are decided
+ * in parallel within a round, as each only touches its own proposals. The result
+ * is stable and the best stable outcome for every student.
+ */
+final class AllocationEngine {
+    /** Application ID of each candidate, candidates grouped by student in preference order. */
+    private final int[] applicationIds;
+    /** Internship ID of each candidate. */
+    private final int[] internshipIds;
+    /** Student index of each candidate. */
+    private final int[] studentOf;
+    /** Index of each student's first candidate, plus a final end marker. */
+    private final int[] firstCandidate;
+    /** Open slots by internship ID. */
+    private final Map<Integer, Integer> openSlots;
+
+    /**
+     * Snapshots the candidates. Call under the read lock; {@link #run(long)} then
+     * works on the snapshot alone.
+     *
+     * @param candidates PENDING applications to match
+     * @param openSlots  open slots by internship ID; internships missing or with no slot take nobody
+     */
+    AllocationEngine(List<Application> candidates, Map<Integer, Integer> openSlots) {
+        List<Application> ordered = new ArrayList<>(candidates);
+        ordered.sort(Comparator.comparing(Application::getStudentId)
+                .thenComparingInt(Application::getApplicationId));
+        int size = ordered.size();
+        applicationIds = new int[size];
+        internshipIds = new int[size];
+        studentOf = new int[size];
+        List<Integer> starts = new ArrayList<>();
+        String previousStudent = null;
+        for (int i = 0; i < size; i++) {
+            Application application = ordered.get(i);
+            if (!application.getStudentId().equals(previousStudent)) {
+                starts.add(i);
+                previousStudent = application.getStudentId();
+            }
+            applicationIds[i] = application.getApplicationId();
+            internshipIds[i] = application.getInternshipId();
+            studentOf[i] = starts.size() - 1;
+        }
+        starts.add(size);
+        firstCandidate = starts.stream().mapToInt(Integer::intValue).toArray();
+        this.openSlots = openSlots;
+    }
+
+    /**
+     * Runs the match to completion.
+     *
+     * @param startNanos {@link System#nanoTime()} when planning began
+     * @return the dry-run report
+     */
+    AllocationReport run(long startNanos) {
+        Map<Integer, Holder> holders = new HashMap<>();
+        int totalSlots = 0;
+        for (Map.Entry<Integer, Integer> entry : openSlots.entrySet()) {
+            if (entry.getValue() > 0) {
+                holders.put(entry.getKey(), new Holder(entry.getKey(), entry.getValue()));
+                totalSlots += entry.getValue();
+            }
+        }
+
+        int studentCount = firstCandidate.length - 1;
+        int[] nextChoice = new int[studentCount];
+        System.arraycopy(firstCandidate, 0, nextChoice, 0, studentCount);
+        int[] free = IntStream.range(0, studentCount).toArray();
+        int rounds = 0;
+        while (free.length > 0) {
+            Map<Holder, List<Integer>> proposals = new HashMap<>();
+            for (int student : free) {
+                while (nextChoice[student] < firstCandidate[student + 1]) {
+                    int candidate = nextChoice[student]++;
+                    Holder holder = holders.get(internshipIds[candidate]);
+                    if (holder != null) {
+                        proposals.computeIfAbsent(holder, key -> new ArrayList<>()).add(candidate);
+                        break;
+                    }
+                }
+            }
+            if (proposals.isEmpty()) {
+                break;
+            }
+            rounds++;
+            free = proposals.entrySet().parallelStream()
+                    .flatMapToInt(entry -> entry.getKey().consider(entry.getValue()))
+                    .map(candidate -> studentOf[candidate])
+                    .toArray();
+        }
+
+        Map<Integer, List<Integer>> offers = new TreeMap<>();
+        for (Holder holder : holders.values()) {
+            if (!holder.held.isEmpty()) {
+                offers.put(holder.internshipId, holder.held.stream()
+                        .map(candidate -> applicationIds[candidate])
+                        .sorted()
+                        .toList());
+            }
+        }
+        return new AllocationReport(offers, applicationIds.length, studentCount, holders.size(), totalSlots,
+                rounds, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Proposals an internship is holding on to, worst first so it can be turned away cheaply.
+     */
+    private final class Holder {
+        /** The internship ID. */
+        final int internshipId;
+        /** Number of proposals the internship can hold. */
+        final int capacity;
+        /** Held candidates, latest application first. */
+        final PriorityQueue<Integer> held;
+
+        Holder(int internshipId, int capacity) {
+            this.internshipId = internshipId;
+            this.capacity = capacity;
+            this.held = new PriorityQueue<>(
+                    Comparator.comparingInt((Integer candidate) -> applicationIds[candidate]).reversed());
+        }
+
+        /**
+         * Adds this round's proposals and turns away whatever no longer fits.
+         *
+         * @param proposals candidates proposing this round
+         * @return the candidates turned away
+         */
+        IntStream consider(List<Integer> proposals) {
+            held.addAll(proposals);
+            IntStream.Builder rejected = IntStream.builder();
+            while (held.size() > capacity) {
+                rejected.add(held.poll());
+            }
+            return rejected.build();
+        }
+    }
+}
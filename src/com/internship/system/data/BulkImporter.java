@@ -0,0 +1,303 @@
+package com.internship.system.data;
+
+import com.internship.system.model.enums.InternshipLevel;
+import com.internship.system.model.enums.InternshipStatus;
+import com.internship.system.util.CsvUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Reads a CSV file for bulk import. Lines are streamed in chunks; each chunk is
+ * tokenized, validated and parsed in parallel, then rows repeating a key already
+ * seen in the file are rejected. Checks against data already in memory are left
+ * to the caller, which commits the batch.
+ *
+ * @param <T> the type of record imported
+ */
+final class BulkImporter<T> {
+    /** Number of lines tokenized and validated together. */
+    private static final int CHUNK_SIZE = 4096;
+    /** Maximum number of slots per internship, as enforced when creating one. */
+    private static final int MAX_SLOTS = 10;
+
+    /** Returns why a row is invalid, or null if it is valid. */
+    private final Function<List<String>, String> validator;
+    /** Builds a record from a valid row. */
+    private final Function<List<String>, T> parser;
+    /** Key identifying duplicates within the file. */
+    private final Function<T, String> keyOf;
+
+    /** Rows accepted so far, in file order. */
+    private final List<Row<T>> accepted = new ArrayList<>();
+    /** Rejection messages by line number. */
+    private final TreeMap<Integer, String> rejected = new TreeMap<>();
+    /** Number of data rows read, blank lines excluded. */
+    private int rowsRead;
+
+    /**
+     * Constructs a new BulkImporter.
+     *
+     * @param validator returns why a row is invalid, or null if valid
+     * @param parser    builds a record from a valid row
+     * @param keyOf     key identifying duplicates within the file
+     */
+    BulkImporter(Function<List<String>, String> validator, Function<List<String>, T> parser,
+            Function<T, String> keyOf) {
+        this.validator = validator;
+        this.parser = parser;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * A record together with the line it came from.
+     *
+     * @param <T> the type of record
+     */
+    static final class Row<T> {
+        /** Line number in the file, the header being line 1. */
+        final int lineNumber;
+        /** The parsed record. */
+        final T value;
+
+        Row(int lineNumber, T value) {
+            this.lineNumber = lineNumber;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Result of parsing one line: a record, a rejection reason, or neither for a blank line.
+     *
+     * @param <T> the type of record
+     */
+    private static final class Parsed<T> {
+        /** The record, or null. */
+        final T value;
+        /** Why the line was rejected, or null. */
+        final String problem;
+
+        Parsed(T value, String problem) {
+            this.value = value;
+            this.problem = problem;
+        }
+    }
+
+    /**
+     * Reads the file, skipping its header line.
+     *
+     * @param file the CSV file
+     * @return this importer, holding the accepted and rejected rows
+     * @throws IllegalArgumentException if the file does not exist
+     * @throws RuntimeException         if the file cannot be read
+     */
+    BulkImporter<T> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("File not found: " + file);
+        }
+        Set<String> seenKeys = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            reader.readLine();
+            int firstLineNumber = 2;
+            List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                chunk.add(line);
+                if (chunk.size() == CHUNK_SIZE) {
+                    processChunk(chunk, firstLineNumber, seenKeys);
+                    firstLineNumber += chunk.size();
+                    chunk.clear();
+                }
+            }
+            processChunk(chunk, firstLineNumber, seenKeys);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to import from " + file, e);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the rows that passed validation and in-file deduplication.
+     *
+     * @return accepted rows in file order
+     */
+    List<Row<T>> getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * Records a row rejected after reading, e.g. because it clashes with existing data.
+     *
+     * @param lineNumber the row's line number
+     * @param problem    why it was rejected
+     */
+    void reject(int lineNumber, String problem) {
+        rejected.put(lineNumber, "Line " + lineNumber + ": " + problem);
+    }
+
+    /**
+     * Gets every rejection message in line order.
+     *
+     * @return rejection messages
+     */
+    List<String> getRejected() {
+        return new ArrayList<>(rejected.values());
+    }
+
+    /**
+     * Gets the number of data rows read, blank lines excluded.
+     *
+     * @return rows read
+     */
+    int getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * Validates and parses one chunk in parallel, then dedupes it in file order.
+     *
+     * @param chunk           the raw lines
+     * @param firstLineNumber line number of the chunk's first line
+     * @param seenKeys        keys accepted so far
+     */
+    private void processChunk(List<String> chunk, int firstLineNumber, Set<String> seenKeys) {
+        List<Parsed<T>> results = IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> parseLine(chunk.get(i)))
+                .toList();
+        for (int i = 0; i < results.size(); i++) {
+            Parsed<T> result = results.get(i);
+            int lineNumber = firstLineNumber + i;
+            if (result == null) {
+                continue;
+            }
+            rowsRead++;
+            if (result.problem != null) {
+                reject(lineNumber, result.problem);
+            } else if (!seenKeys.add(keyOf.apply(result.value))) {
+                reject(lineNumber, "duplicate of an earlier row in the file");
+            } else {
+                accepted.add(new Row<>(lineNumber, result.value));
+            }
+        }
+    }
+
+    /**
+     * Tokenizes, validates and parses one line.
+     *
+     * @param line the raw line
+     * @return the outcome, or null for a blank line
+     */
+    private Parsed<T> parseLine(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        List<String> tokens = CsvUtils.parseLine(line);
+        String problem = validator.apply(tokens);
+        if (problem != null) {
+            return new Parsed<>(null, problem);
+        }
+        return new Parsed<>(parser.apply(tokens), null);
+    }
+
+    /**
+     * Validates a student_list.csv row.
+     *
+     * @param tokens the parsed row
+     * @return why the row is invalid, or null if valid
+     */
+    static String validateStudent(List<String> tokens) {
+        if (tokens.size() < 4) {
+            return "expected at least 4 columns (StudentID, Name, Major, YearOfStudy)";
+        }
+        if (tokens.get(0).isBlank() || tokens.get(1).isBlank() || tokens.get(2).isBlank()) {
+            return "student ID, name and major are required";
+        }
+        int year;
+        try {
+            year = Integer.parseInt(tokens.get(3));
+        } catch (NumberFormatException e) {
+            return "year of study is not a number: " + tokens.get(3);
+        }
+        if (year < 1 || year > 4) {
+            return "year of study must be 1-4: " + year;
+        }
+        return null;
+    }
+
+    /**
+     * Validates a company_representative_list.csv row.
+     *
+     * @param tokens the parsed row
+     * @return why the row is invalid, or null if valid
+     */
+    static String validateCompanyRep(List<String> tokens) {
+        if (tokens.size() < 6) {
+            return "expected at least 6 columns (CompanyRepID, Name, CompanyName, Department, Position, Email)";
+        }
+        if (tokens.get(0).isBlank() || tokens.get(1).isBlank() || tokens.get(2).isBlank()) {
+            return "representative ID, name and company name are required";
+        }
+        return null;
+    }
+
+    /**
+     * Validates an internships.csv row. The internship ID column is not checked,
+     * as imported internships are given new IDs.
+     *
+     * @param tokens the parsed row
+     * @return why the row is invalid, or null if valid
+     */
+    static String validateInternship(List<String> tokens) {
+        if (tokens.size() < 12) {
+            return "expected 12 columns as in internships.csv";
+        }
+        if (tokens.get(1).isBlank() || tokens.get(8).isBlank() || tokens.get(9).isBlank()) {
+            return "title, company name and representative ID are required";
+        }
+        try {
+            InternshipLevel.valueOf(tokens.get(3).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return "unknown level: " + tokens.get(3);
+        }
+        if (!tokens.get(7).isBlank()) {
+            try {
+                InternshipStatus.valueOf(tokens.get(7).toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return "unknown status: " + tokens.get(7);
+            }
+        }
+        LocalDate opening;
+        LocalDate closing;
+        try {
+            opening = LocalDate.parse(tokens.get(5));
+            closing = LocalDate.parse(tokens.get(6));
+        } catch (DateTimeParseException e) {
+            return "dates must be YYYY-MM-DD";
+        }
+        if (closing.isBefore(opening)) {
+            return "closing date is before opening date";
+        }
+        int slots;
+        try {
+            slots = Integer.parseInt(tokens.get(10));
+        } catch (NumberFormatException e) {
+            return "slots is not a number: " + tokens.get(10);
+        }
+        if (slots < 1 || slots > MAX_SLOTS) {
+            return "slots must be 1-" + MAX_SLOTS + ": " + slots;
+        }
+        return null;
+    }
+}
@@ -8,29 +8,84 @@ import com.internship.system.model.user.CareerCenterStaff;
 import com.internship.system.model.user.CompanyRepresentative;
 import com.internship.system.model.user.Student;
 import com.internship.system.util.IdGenerator;
+import com.internship.system.util.TopK;
+import com.internship.system.model.AllocationReport;
 import com.internship.system.model.FilterCriteria;
+import com.internship.system.model.ImportReport;
+import com.internship.system.model.Page;
+import com.internship.system.model.PlacementDashboard;
+import com.internship.system.model.Recommendation;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Central data management class for the internship system.
  * Handles loading, saving, and querying of all entities (users, internships, applications).
  * Maintains in-memory caches with ID-based lookups for efficient access.
+ * <p>
+ * Safe for concurrent sessions: ID lookups use optimistic reads, queries run
+ * under a shared read lock and mutations under an exclusive write lock. Callers
+ * that read and then update several entities use {@link #inTransaction(Supplier)}
+ * to make the sequence atomic.
+ * <p>
+ * Controllers change a model object's fields in place under its internship's
+ * or student's lock, not the write lock, and then report the change with
+ * {@code update*} so the indexes follow. The fields they change are volatile
+ * (or atomic), so saves and optimistic readers see each change without taking
+ * those locks; a save running meanwhile may write the object half changed, and
+ * the save that follows the change writes it whole.
  */
 public class DataManager {
+    /** Maximum number of browse results kept in the query cache. */
+    private static final int QUERY_CACHE_CAPACITY = 256;
+    /** Number of lock stripes shared by all internships. */
+    private static final int INTERNSHIP_LOCK_STRIPES = 64;
+    /** Number of lock stripes shared by all students. */
+    private static final int STUDENT_LOCK_STRIPES = 64;
+    /**
+     * Time a student has to answer an offer before it expires, from the system
+     * property {@code internship.offerTtl} as an ISO-8601 duration (default P7D;
+     * zero disables expiry).
+     */
+    private static final Duration OFFER_TTL = offerTtlFromProperty();
+    /** Seconds between offer expiry sweeps, from {@code internship.offerSweepSeconds}. */
+    private static final int OFFER_SWEEP_SECONDS = Integer.getInteger("internship.offerSweepSeconds", 60);
+
     /** Loader for user data (students, staff, company representatives). */
     private final UserLoader userLoader = new UserLoader();
     /** Loader for internship and application data. */
     private final InternshipLoader internshipLoader = new InternshipLoader();
-    /** Generator for unique IDs. */
-    private final IdGenerator idGenerator = new IdGenerator();
+    /**
+     * Generator for unique IDs. Set the system property {@code internship.idBlockSize}
+     * above 1 to lease IDs to each thread in blocks for bulk creation.
+     */
+    private final IdGenerator idGenerator = new IdGenerator(Integer.getInteger("internship.idBlockSize", 1));
 
     /** In-memory list of all students. */
     private final List<Student> students = new ArrayList<>();
@@ -44,15 +99,57 @@ public class DataManager {
     private final List<Application> applications = new ArrayList<>();
 
     /** Map for fast student lookup by ID. */
-    private final Map<String, Student> studentsById = new HashMap<>();
+    private final Map<String, Student> studentsById = new ConcurrentHashMap<>();
     /** Map for fast company representative lookup by ID. */
-    private final Map<String, CompanyRepresentative> companyRepsById = new HashMap<>();
+    private final Map<String, CompanyRepresentative> companyRepsById = new ConcurrentHashMap<>();
     /** Map for fast staff lookup by ID. */
-    private final Map<String, CareerCenterStaff> staffById = new HashMap<>();
+    private final Map<String, CareerCenterStaff> staffById = new ConcurrentHashMap<>();
     /** Map for fast internship lookup by ID. */
-    private final Map<Integer, Internship> internshipsById = new HashMap<>();
+    private final Map<Integer, Internship> internshipsById = new ConcurrentHashMap<>();
     /** Map for fast application lookup by ID. */
-    private final Map<Integer, Application> applicationsById = new HashMap<>();
+    private final Map<Integer, Application> applicationsById = new ConcurrentHashMap<>();
+    /** IDs of applications with an outstanding withdrawal request, oldest first. */
+    private final NavigableSet<Integer> withdrawalRequestIds = new TreeSet<>();
+
+    /** Secondary access paths over internships (status, company, major, closing date, title). */
+    private final InternshipIndex internshipIndex = new InternshipIndex();
+    /** Inverted index over internship titles and descriptions for keyword search. */
+    private final TextIndex textIndex = new TextIndex();
+    /** Distinct company names, sorted for prefix completion. */
+    private final PrefixDictionary companyNames = new PrefixDictionary();
+    /** Distinct preferred majors, sorted for prefix completion. */
+    private final PrefixDictionary majors = new PrefixDictionary();
+    /** Placement aggregates for the staff dashboard. */
+    private final StatisticsIndex statistics = new StatisticsIndex();
+    /** Planner choosing an access path for filtered internship queries. */
+    private final InternshipQueryPlanner queryPlanner = new InternshipQueryPlanner(internshipIndex, internshipsById);
+    /** Materialized eligible-internship sets per (major, year 1-2) bucket. */
+    private final EligibilityIndex eligibilityIndex = new EligibilityIndex(LocalDate.now());
+    /** APPROVED internships by closing date, for closing them once the date has passed. */
+    private final ExpiryWheel expiryWheel = new ExpiryWheel();
+    /** Outstanding offers ordered by the deadline for answering them. */
+    private final OfferExpiryQueue offerQueue = new OfferExpiryQueue();
+    /** PENDING applications queued per internship, for promoting into freed slots. */
+    private final Waitlist waitlist = new Waitlist();
+    /** Eligible internships in recommendation order per (major, year class). */
+    private final RecommendationIndex recommendationIndex = new RecommendationIndex(waitlist, LocalDate.now());
+    /** Daemon running the expiry sweeps, or null if not started. */
+    private ScheduledExecutorService expiryScheduler;
+    /** Cache of student browse results, keyed by criteria and eligibility bucket. */
+    private final QueryResultCache queryCache = new QueryResultCache(QUERY_CACHE_CAPACITY);
+    /** Version of the internship data, bumped whenever an internship is added, removed or updated. */
+    private long internshipVersion;
+
+    /** Guards every in-memory collection, index and cache above. */
+    private final StampedLock lock = new StampedLock();
+    /** Thread holding the write lock, so nested calls from that thread do not self-deadlock. */
+    private volatile Thread writeOwner;
+    /** Serializes CSV writes, which otherwise run concurrently under the read lock. */
+    private final Object saveMonitor = new Object();
+    /** Striped locks serializing slot changes per internship. */
+    private final ReentrantLock[] internshipLocks = new ReentrantLock[INTERNSHIP_LOCK_STRIPES];
+    /** Striped locks serializing offer decisions per student. */
+    private final ReentrantLock[] studentLocks = new ReentrantLock[STUDENT_LOCK_STRIPES];
 
     /** Path to the students CSV file. */
     private final Path studentFile;
@@ -76,6 +173,12 @@ public class DataManager {
         this.companyRepFile = baseDir.resolve("company_representative_list.csv");
         this.internshipFile = baseDir.resolve("internships.csv");
         this.applicationFile = baseDir.resolve("applications.csv");
+        for (int i = 0; i < internshipLocks.length; i++) {
+            internshipLocks[i] = new ReentrantLock();
+        }
+        for (int i = 0; i < studentLocks.length; i++) {
+            studentLocks[i] = new ReentrantLock();
+        }
     }
 
     /**
@@ -83,6 +186,15 @@ public class DataManager {
      * Clears existing caches, loads all entities, builds ID maps, and reconciles confirmed offers.
      */
     public void loadAllData() {
+        write(this::loadAllDataLocked);
+        closeExpiredInternships();
+        expireStaleOffers();
+    }
+
+    /**
+     * Loads all data from CSV files. Caller must hold the write lock.
+     */
+    private void loadAllDataLocked() {
         clearCaches();
 
         students.addAll(userLoader.loadStudentsFromFile(studentFile.toString()));
@@ -98,6 +210,7 @@ public class DataManager {
         companyReps.addAll(userLoader.loadCompanyRepsFromFile(companyRepFile.toString()));
         for (CompanyRepresentative rep : companyReps) {
             companyRepsById.put(rep.getUserId(), rep);
+            statistics.trackRepresentative(rep);
         }
 
         internships.addAll(internshipLoader.loadInternshipsFromFile(internshipFile.toString()));
@@ -112,11 +225,25 @@ public class DataManager {
         int maxApplicationId = 0;
         for (Application application : applications) {
             applicationsById.put(application.getApplicationId(), application);
+            indexWithdrawalRequest(application);
+            trackOffer(application);
+            trackWaitlist(application);
+            statistics.trackApplication(application);
             maxApplicationId = Math.max(maxApplicationId, application.getApplicationId());
         }
         idGenerator.seed("application", maxApplicationId);
 
         reconcileConfirmedOffers();
+
+        for (Internship internship : internships) {
+            internshipIndex.add(internship);
+            textIndex.index(internship);
+            trackDictionaries(internship);
+            statistics.trackInternship(internship);
+            eligibilityIndex.add(internship);
+            recommendationIndex.add(internship);
+            expiryWheel.track(internship);
+        }
     }
 
     /**
@@ -124,20 +251,110 @@ public class DataManager {
      * Writes students, staff, company representatives, internships, and applications.
      */
     public void saveAllData() {
-        userLoader.saveStudentsToFile(studentFile.toString(), students);
-        userLoader.saveStaffToFile(staffFile.toString(), staffMembers);
-        userLoader.saveCompanyRepsToFile(companyRepFile.toString(), companyReps);
-        internshipLoader.saveInternshipsToFile(internshipFile.toString(), internships);
-        internshipLoader.saveApplicationsToFile(applicationFile.toString(), applications);
+        read(() -> {
+            synchronized (saveMonitor) {
+                userLoader.saveStudentsToFile(studentFile.toString(), students);
+                userLoader.saveStaffToFile(staffFile.toString(), staffMembers);
+                userLoader.saveCompanyRepsToFile(companyRepFile.toString(), companyReps);
+                internshipLoader.saveInternshipsToFile(internshipFile.toString(), internships);
+                internshipLoader.saveApplicationsToFile(applicationFile.toString(), applications);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Checks whether a path is one of the CSV files the data is saved to, so
+     * that nothing else overwrites them. Paths are compared after resolving
+     * them against the working directory, and existing files are also compared
+     * with {@link Files#isSameFile(Path, Path)} to catch links. A path that
+     * cannot be compared is treated as a data file.
+     *
+     * @param file the path to check
+     * @return true if the path is a data file
+     */
+    public boolean isDataFile(Path file) {
+        Path target = file.toAbsolutePath().normalize();
+        for (Path dataFile : List.of(studentFile, staffFile, companyRepFile, internshipFile, applicationFile)) {
+            if (target.equals(dataFile)) {
+                return true;
+            }
+            try {
+                if (Files.exists(target) && Files.exists(dataFile) && Files.isSameFile(target, dataFile)) {
+                    return true;
+                }
+            } catch (IOException e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs a sequence of reads and updates atomically with respect to every other
+     * DataManager caller. The action may call back into this DataManager.
+     *
+     * @param action the work to run
+     * @param <T>    the result type
+     * @return the action's result
+     */
+    public <T> T inTransaction(Supplier<T> action) {
+        return write(action);
+    }
+
+    /**
+     * Runs an action while holding the lock stripe of one internship.
+     * Check-then-act sequences on an internship's slots (accepting an offer,
+     * revoking one) and every status change of its applications run under this
+     * lock, so they are serialized per internship
+     * while work on internships in other stripes proceeds in parallel.
+     * Must not be called while holding the write lock of {@link #inTransaction(Supplier)}.
+     *
+     * @param internshipId the internship ID
+     * @param action       the work to run
+     * @param <T>          the result type
+     * @return the action's result
+     */
+    public <T> T withInternshipLock(int internshipId, Supplier<T> action) {
+        ReentrantLock stripe = internshipLocks[Math.floorMod(Integer.hashCode(internshipId) * 0x9E3779B9, INTERNSHIP_LOCK_STRIPES)];
+        stripe.lock();
+        try {
+            return action.get();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Runs an action while holding the lock stripe of one student.
+     * A student's offer decisions (accepting one offer and withdrawing the
+     * others, rejecting one) run under this lock, so two sessions of the same
+     * student cannot each accept a different offer. Internship locks may be
+     * taken inside it, never the other way round, and it must not be called
+     * while holding the write lock of {@link #inTransaction(Supplier)}.
+     *
+     * @param studentId the student's user ID
+     * @param action    the work to run
+     * @param <T>       the result type
+     * @return the action's result
+     */
+    public <T> T withStudentLock(String studentId, Supplier<T> action) {
+        ReentrantLock stripe = studentLocks[Math.floorMod(studentId.hashCode() * 0x9E3779B9, STUDENT_LOCK_STRIPES)];
+        stripe.lock();
+        try {
+            return action.get();
+        } finally {
+            stripe.unlock();
+        }
     }
 
     /**
      * Gets all students.
      *
-     * @return unmodifiable list of all students
+     * @return snapshot of all students
      */
     public List<Student> getStudents() {
-        return Collections.unmodifiableList(students);
+        return read(() -> List.copyOf(students));
     }
 
     /**
@@ -147,16 +364,19 @@ public class DataManager {
      * @return Optional containing the student if found, empty otherwise
      */
     public Optional<Student> findStudentById(String studentId) {
-        return Optional.ofNullable(studentsById.get(studentId));
+        if (studentId == null) {
+            return Optional.empty();
+        }
+        return optimisticRead(() -> Optional.ofNullable(studentsById.get(studentId)));
     }
 
     /**
      * Gets all career center staff members.
      *
-     * @return unmodifiable list of all staff members
+     * @return snapshot of all staff members
      */
     public List<CareerCenterStaff> getStaffMembers() {
-        return Collections.unmodifiableList(staffMembers);
+        return read(() -> List.copyOf(staffMembers));
     }
 
     /**
@@ -166,16 +386,19 @@ public class DataManager {
      * @return Optional containing the staff member if found, empty otherwise
      */
     public Optional<CareerCenterStaff> findStaffById(String staffId) {
-        return Optional.ofNullable(staffById.get(staffId));
+        if (staffId == null) {
+            return Optional.empty();
+        }
+        return optimisticRead(() -> Optional.ofNullable(staffById.get(staffId)));
     }
 
     /**
      * Gets all company representatives.
      *
-     * @return unmodifiable list of all company representatives
+     * @return snapshot of all company representatives
      */
     public List<CompanyRepresentative> getCompanyRepresentatives() {
-        return Collections.unmodifiableList(companyReps);
+        return read(() -> List.copyOf(companyReps));
     }
 
     /**
@@ -185,16 +408,19 @@ public class DataManager {
      * @return Optional containing the representative if found, empty otherwise
      */
     public Optional<CompanyRepresentative> findCompanyRepresentativeById(String repId) {
-        return Optional.ofNullable(companyRepsById.get(repId));
+        if (repId == null) {
+            return Optional.empty();
+        }
+        return optimisticRead(() -> Optional.ofNullable(companyRepsById.get(repId)));
     }
 
     /**
      * Gets all internships.
      *
-     * @return unmodifiable list of all internships
+     * @return snapshot of all internships
      */
     public List<Internship> getInternships() {
-        return Collections.unmodifiableList(internships);
+        return read(() -> List.copyOf(internships));
     }
 
     /**
@@ -204,16 +430,16 @@ public class DataManager {
      * @return Optional containing the internship if found, empty otherwise
      */
     public Optional<Internship> findInternshipById(int internshipId) {
-        return Optional.ofNullable(internshipsById.get(internshipId));
+        return optimisticRead(() -> Optional.ofNullable(internshipsById.get(internshipId)));
     }
 
     /**
      * Gets all applications.
      *
-     * @return unmodifiable list of all applications
+     * @return snapshot of all applications
      */
     public List<Application> getApplications() {
-        return Collections.unmodifiableList(applications);
+        return read(() -> List.copyOf(applications));
     }
 
     /**
@@ -223,7 +449,19 @@ public class DataManager {
      * @return Optional containing the application if found, empty otherwise
      */
     public Optional<Application> findApplicationById(int applicationId) {
-        return Optional.ofNullable(applicationsById.get(applicationId));
+        return optimisticRead(() -> Optional.ofNullable(applicationsById.get(applicationId)));
+    }
+
+    /**
+     * Gets the applications with an outstanding withdrawal request, read from a
+     * maintained index instead of scanning every application.
+     *
+     * @return unmodifiable list of those applications, oldest first
+     */
+    public List<Application> getWithdrawalRequests() {
+        return read(() -> withdrawalRequestIds.stream()
+                .map(applicationsById::get)
+                .collect(Collectors.toUnmodifiableList()));
     }
 
     /**
@@ -233,9 +471,9 @@ public class DataManager {
      * @return unmodifiable list of applications for that student
      */
     public List<Application> getApplicationsForStudent(String studentId) {
-        return applications.stream()
+        return read(() -> applications.stream()
                 .filter(application -> application.getStudentId().equals(studentId))
-                .collect(Collectors.toUnmodifiableList());
+                .collect(Collectors.toUnmodifiableList()));
     }
 
     /**
@@ -245,9 +483,9 @@ public class DataManager {
      * @return unmodifiable list of applications for that internship
      */
     public List<Application> getApplicationsForInternship(int internshipId) {
-        return applications.stream()
+        return read(() -> applications.stream()
                 .filter(application -> application.getInternshipId() == internshipId)
-                .collect(Collectors.toUnmodifiableList());
+                .collect(Collectors.toUnmodifiableList()));
     }
 
     /**
@@ -256,8 +494,11 @@ public class DataManager {
      * @param representative the representative to add
      */
     public void addCompanyRepresentative(CompanyRepresentative representative) {
-        companyReps.add(representative);
-        companyRepsById.put(representative.getUserId(), representative);
+        write(() -> {
+            companyReps.add(representative);
+            companyRepsById.put(representative.getUserId(), representative);
+            statistics.trackRepresentative(representative);
+        });
     }
 
     /**
@@ -267,10 +508,13 @@ public class DataManager {
      * @param approved the new approval status
      */
     public void updateCompanyRepresentativeApproval(String repId, boolean approved) {
-        CompanyRepresentative representative = companyRepsById.get(repId);
-        if (representative != null) {
-            representative.setApproved(approved);
-        }
+        write(() -> {
+            CompanyRepresentative representative = companyRepsById.get(repId);
+            if (representative != null) {
+                representative.setApproved(approved);
+                statistics.trackRepresentative(representative);
+            }
+        });
     }
 
     /**
@@ -279,8 +523,18 @@ public class DataManager {
      * @param internship the internship to add
      */
     public void addInternship(Internship internship) {
-        internships.add(internship);
-        internshipsById.put(internship.getInternshipId(), internship);
+        write(() -> {
+            internships.add(internship);
+            internshipsById.put(internship.getInternshipId(), internship);
+            internshipIndex.add(internship);
+            textIndex.index(internship);
+            trackDictionaries(internship);
+            statistics.trackInternship(internship);
+            eligibilityIndex.add(internship);
+            recommendationIndex.add(internship);
+            expiryWheel.track(internship);
+            internshipVersion++;
+        });
     }
 
     /**
@@ -289,7 +543,17 @@ public class DataManager {
      * @param internship the internship with updated data
      */
     public void updateInternship(Internship internship) {
-        internshipsById.put(internship.getInternshipId(), internship);
+        write(() -> {
+            internshipsById.put(internship.getInternshipId(), internship);
+            internshipIndex.update(internship);
+            textIndex.index(internship);
+            trackDictionaries(internship);
+            statistics.trackInternship(internship);
+            eligibilityIndex.update(internship);
+            recommendationIndex.update(internship);
+            expiryWheel.track(internship);
+            internshipVersion++;
+        });
     }
 
     /**
@@ -298,8 +562,19 @@ public class DataManager {
      * @param internshipId the ID of the internship to remove
      */
     public void removeInternship(int internshipId) {
-        internships.removeIf(internship -> internship.getInternshipId() == internshipId);
-        internshipsById.remove(internshipId);
+        write(() -> {
+            internships.removeIf(internship -> internship.getInternshipId() == internshipId);
+            internshipsById.remove(internshipId);
+            internshipIndex.remove(internshipId);
+            textIndex.remove(internshipId);
+            companyNames.remove(internshipId);
+            majors.remove(internshipId);
+            statistics.removeInternship(internshipId);
+            eligibilityIndex.remove(internshipId);
+            recommendationIndex.remove(internshipId);
+            expiryWheel.remove(internshipId);
+            internshipVersion++;
+        });
     }
 
     /**
@@ -308,8 +583,14 @@ public class DataManager {
      * @param application the application to add
      */
     public void addApplication(Application application) {
-        applications.add(application);
-        applicationsById.put(application.getApplicationId(), application);
+        write(() -> {
+            applications.add(application);
+            applicationsById.put(application.getApplicationId(), application);
+            indexWithdrawalRequest(application);
+            trackOffer(application);
+            trackWaitlist(application);
+            statistics.trackApplication(application);
+        });
     }
 
     /**
@@ -318,7 +599,13 @@ public class DataManager {
      * @param application the application with updated data
      */
     public void updateApplication(Application application) {
-        applicationsById.put(application.getApplicationId(), application);
+        write(() -> {
+            applicationsById.put(application.getApplicationId(), application);
+            indexWithdrawalRequest(application);
+            trackOffer(application);
+            trackWaitlist(application);
+            statistics.trackApplication(application);
+        });
     }
 
     /**
@@ -327,34 +614,829 @@ public class DataManager {
      * @param applicationId the ID of the application to remove
      */
     public void removeApplication(int applicationId) {
-        applications.removeIf(application -> application.getApplicationId() == applicationId);
-        applicationsById.remove(applicationId);
+        write(() -> {
+            applications.removeIf(application -> application.getApplicationId() == applicationId);
+            Application removed = applicationsById.remove(applicationId);
+            withdrawalRequestIds.remove(applicationId);
+            offerQueue.remove(applicationId);
+            statistics.removeApplication(applicationId);
+            if (waitlist.remove(applicationId) && removed != null) {
+                recommendationIndex.refresh(removed.getInternshipId());
+            }
+        });
+    }
+
+    /**
+     * Adds an outstanding offer to the expiry queue, or drops an application that
+     * no longer has one. An offer without a recorded time (e.g. loaded from an
+     * older file) is treated as made now. Caller must hold the write lock.
+     *
+     * @param application the application
+     */
+    private void trackOffer(Application application) {
+        if (application.getStatus() != ApplicationStatus.SUCCESSFUL_PENDING || !isOfferExpiryEnabled()) {
+            offerQueue.remove(application.getApplicationId());
+            return;
+        }
+        if (application.getOfferedAt() == null) {
+            application.setOfferedAt(Instant.now());
+        }
+        offerQueue.track(application.getApplicationId(), application.getInternshipId(),
+                application.getOfferedAt().plus(OFFER_TTL));
+    }
+
+    /**
+     * Reads the offer TTL from {@code internship.offerTtl}, falling back to seven
+     * days if it is missing or malformed.
+     *
+     * @return the offer TTL
+     */
+    private static Duration offerTtlFromProperty() {
+        try {
+            return Duration.parse(System.getProperty("internship.offerTtl", "P7D"));
+        } catch (DateTimeParseException e) {
+            return Duration.ofDays(7);
+        }
+    }
+
+    /**
+     * Checks whether offers expire at all.
+     *
+     * @return true if the configured offer TTL is positive
+     */
+    private static boolean isOfferExpiryEnabled() {
+        return !OFFER_TTL.isZero() && !OFFER_TTL.isNegative();
+    }
+
+    /**
+     * Gets the time an outstanding offer expires.
+     *
+     * @param application the application
+     * @return the deadline, or empty if the application has no outstanding offer or offers do not expire
+     */
+    public Optional<Instant> getOfferDeadline(Application application) {
+        if (application.getStatus() != ApplicationStatus.SUCCESSFUL_PENDING
+                || application.getOfferedAt() == null
+                || !isOfferExpiryEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.of(application.getOfferedAt().plus(OFFER_TTL));
+    }
+
+    /**
+     * Expires every offer left unanswered past its deadline: the application moves
+     * from SUCCESSFUL_PENDING to SUCCESSFUL_REJECTED. Due offers are taken from the
+     * head of the deadline queue, so only expiring offers are visited. They are
+     * decided one internship at a time under its lock, as offer acceptance is, and
+     * the data is saved once. Runs on load and periodically from the scheduler.
+     *
+     * @return number of offers expired
+     */
+    public int expireStaleOffers() {
+        Instant now = Instant.now();
+        List<OfferExpiryQueue.Entry> due = write(() -> offerQueue.pollDue(now));
+        Map<Integer, List<OfferExpiryQueue.Entry>> byInternship = due.stream()
+                .collect(Collectors.groupingBy(entry -> entry.internshipId));
+        int expired = 0;
+        for (Map.Entry<Integer, List<OfferExpiryQueue.Entry>> group : byInternship.entrySet()) {
+            expired += withInternshipLock(group.getKey(), () -> {
+                int count = 0;
+                for (OfferExpiryQueue.Entry entry : group.getValue()) {
+                    Application application = applicationsById.get(entry.applicationId);
+                    if (application == null || application.getStatus() != ApplicationStatus.SUCCESSFUL_PENDING) {
+                        continue;
+                    }
+                    if (getOfferDeadline(application).map(deadline -> deadline.isAfter(now)).orElse(true)) {
+                        updateApplication(application);
+                        continue;
+                    }
+                    application.setStatus(ApplicationStatus.SUCCESSFUL_REJECTED);
+                    updateApplication(application);
+                    promoteFromWaitlist(group.getKey());
+                    count++;
+                }
+                return count;
+            });
+        }
+        if (expired > 0) {
+            saveAllData();
+        }
+        return expired;
+    }
+
+    /**
+     * Queues a PENDING application on its internship's waitlist, or drops an
+     * application that is no longer PENDING, re-scoring the internship's
+     * recommendations if the waitlist changed. Caller must hold the write lock.
+     *
+     * @param application the application
+     */
+    private void trackWaitlist(Application application) {
+        boolean changed = application.getStatus() == ApplicationStatus.PENDING
+                ? waitlist.track(application.getApplicationId(), application.getInternshipId())
+                : waitlist.remove(application.getApplicationId());
+        if (changed) {
+            recommendationIndex.refresh(application.getInternshipId());
+        }
+    }
+
+    /**
+     * Counts an internship's company name and preferred major in the completion
+     * dictionaries. Caller must hold the write lock.
+     *
+     * @param internship the internship
+     */
+    private void trackDictionaries(Internship internship) {
+        companyNames.track(internship.getInternshipId(), internship.getCompanyName());
+        majors.track(internship.getInternshipId(), internship.getPreferredMajor());
+    }
+
+    /**
+     * Gets a PENDING application's place on its internship's waitlist, in time
+     * proportional to that place.
+     *
+     * @param application the application
+     * @return 1 for the next applicant to be promoted, or 0 if the application is not waitlisted
+     */
+    public int getWaitlistPosition(Application application) {
+        return read(() -> waitlist.positionOf(application.getApplicationId()));
+    }
+
+    /**
+     * Offers freed capacity to the earliest PENDING applicant on the internship's
+     * waitlist, moving that application to SUCCESSFUL_PENDING. Queued applications
+     * that are no longer PENDING are skipped. Nothing is promoted unless the
+     * internship has an {@link #getOpenOfferSlots(int) open offer slot}, so a
+     * freed slot already covered by outstanding offers is not offered again.
+     * Call under the internship's lock right after freeing capacity, once per
+     * slot released or outstanding offer ended (rejected, expired, withdrawn or
+     * turned down), so the promotion is persisted by the same save.
+     *
+     * @param internshipId the internship whose capacity was freed
+     * @return the promoted application, or empty if none was promoted
+     */
+    public Optional<Application> promoteFromWaitlist(int internshipId) {
+        return write(() -> {
+            Internship internship = internshipsById.get(internshipId);
+            if (internship == null || openOfferSlots(internship) == 0) {
+                return Optional.<Application>empty();
+            }
+            Integer applicationId;
+            while ((applicationId = waitlist.pollFirst(internshipId)) != null) {
+                recommendationIndex.refresh(internshipId);
+                Application application = applicationsById.get(applicationId);
+                if (application == null || application.getStatus() != ApplicationStatus.PENDING) {
+                    continue;
+                }
+                application.setStatus(ApplicationStatus.SUCCESSFUL_PENDING);
+                updateApplication(application);
+                return Optional.of(application);
+            }
+            return Optional.<Application>empty();
+        });
+    }
+
+    /**
+     * Checks whether new offers can be made on an internship: it must be APPROVED,
+     * or CLOSED to new applications but still filling its slots.
+     *
+     * @param internship the internship
+     * @return true if the internship takes offers
+     */
+    private static boolean takesOffers(Internship internship) {
+        return internship.getStatus() == InternshipStatus.APPROVED
+                || internship.getStatus() == InternshipStatus.CLOSED;
+    }
+
+    /**
+     * Plans a placement allocation round without changing anything. Every PENDING
+     * application of a student holding neither an accepted placement nor an
+     * outstanding offer goes into a
+     * student-proposing deferred-acceptance match ({@link AllocationEngine}): students
+     * prefer internships in the order they applied, internships prefer earlier
+     * applications. Each internship contributes its {@link #getOpenOfferSlots(int)
+     * open offer slots}. The data is snapshotted under the read lock and matched
+     * outside it.
+     *
+     * @return the dry-run report, at most one offer per student
+     */
+    public AllocationReport planAllocation() {
+        long start = System.nanoTime();
+        AllocationEngine engine = read(() -> {
+            Set<String> placedStudents = new HashSet<>();
+            for (Application application : applications) {
+                if (holdsOffer(application)) {
+                    placedStudents.add(application.getStudentId());
+                }
+            }
+            Map<Integer, Integer> openSlots = new HashMap<>();
+            for (Internship internship : internships) {
+                int open = openOfferSlots(internship);
+                if (open > 0) {
+                    openSlots.put(internship.getInternshipId(), open);
+                }
+            }
+            List<Application> candidates = applications.stream()
+                    .filter(application -> application.getStatus() == ApplicationStatus.PENDING)
+                    .filter(application -> openSlots.containsKey(application.getInternshipId()))
+                    .filter(application -> !placedStudents.contains(application.getStudentId()))
+                    .collect(Collectors.toList());
+            return new AllocationEngine(candidates, openSlots);
+        });
+        return engine.run(start);
+    }
+
+    /**
+     * Gets the number of new offers an internship can still make: its slots minus
+     * its confirmed offers and the offers awaiting an answer, or 0 if it does not
+     * take offers. Allocation rounds and company decisions budget offers with it,
+     * both when planning and when committing.
+     *
+     * @param internshipId the internship ID
+     * @return open offer slots, or 0 if the internship does not exist
+     */
+    public int getOpenOfferSlots(int internshipId) {
+        return read(() -> {
+            Internship internship = internshipsById.get(internshipId);
+            return internship == null ? 0 : openOfferSlots(internship);
+        });
+    }
+
+    /**
+     * Checks whether a student holds an outstanding offer or an accepted placement.
+     * Answered from the running counts in constant time, so it can be called per
+     * offer while holding the student's and internship's locks.
+     *
+     * @param studentId the student ID
+     * @return true if any of the student's applications is SUCCESSFUL_PENDING or SUCCESSFUL_ACCEPTED
+     */
+    public boolean holdsOfferOrPlacement(String studentId) {
+        return read(() -> statistics.holdsOffer(studentId));
+    }
+
+    /**
+     * Computes an internship's open offer slots. Caller must hold a lock.
+     *
+     * @param internship the internship
+     * @return open offer slots
+     */
+    private int openOfferSlots(Internship internship) {
+        if (!takesOffers(internship)) {
+            return 0;
+        }
+        int outstanding = statistics.applicationCount(internship.getInternshipId(), ApplicationStatus.SUCCESSFUL_PENDING);
+        return Math.max(0, internship.getSlots() - internship.getConfirmedOffers() - outstanding);
+    }
+
+    /**
+     * Checks whether an application is an outstanding offer or an accepted placement.
+     *
+     * @param application the application
+     * @return true if SUCCESSFUL_PENDING or SUCCESSFUL_ACCEPTED
+     */
+    private static boolean holdsOffer(Application application) {
+        return application.getStatus() == ApplicationStatus.SUCCESSFUL_PENDING
+                || application.getStatus() == ApplicationStatus.SUCCESSFUL_ACCEPTED;
+    }
+
+    /**
+     * Adds an application to, or drops it from, the withdrawal request index
+     * according to its current flag. Caller must hold the write lock.
+     *
+     * @param application the application
+     */
+    private void indexWithdrawalRequest(Application application) {
+        if (application.isWithdrawalRequested()) {
+            withdrawalRequestIds.add(application.getApplicationId());
+        } else {
+            withdrawalRequestIds.remove(application.getApplicationId());
+        }
+    }
+
+    /**
+     * Imports students from a CSV file in the student_list.csv layout.
+     * Rows are validated in parallel; rows repeating an ID earlier in the file or
+     * already used by any user are rejected. Accepted rows are added in one write
+     * transaction and saved once.
+     *
+     * @param file the CSV file
+     * @return the import report
+     * @throws IllegalArgumentException if the file does not exist
+     */
+    public ImportReport importStudents(Path file) {
+        long start = System.nanoTime();
+        BulkImporter<Student> importer = new BulkImporter<>(
+                BulkImporter::validateStudent, userLoader::parseStudent, Student::getUserId).read(file);
+        int imported = write(() -> {
+            int count = 0;
+            for (BulkImporter.Row<Student> row : importer.getAccepted()) {
+                Student student = row.value;
+                if (isUserIdTaken(student.getUserId())) {
+                    importer.reject(row.lineNumber, "user ID already exists: " + student.getUserId());
+                    continue;
+                }
+                students.add(student);
+                studentsById.put(student.getUserId(), student);
+                count++;
+            }
+            return count;
+        });
+        return finishImport("student", importer, imported, start);
+    }
+
+    /**
+     * Imports company representatives from a CSV file in the
+     * company_representative_list.csv layout. Validation, deduplication and the
+     * single commit and save work as in {@link #importStudents(Path)}.
+     *
+     * @param file the CSV file
+     * @return the import report
+     * @throws IllegalArgumentException if the file does not exist
+     */
+    public ImportReport importCompanyRepresentatives(Path file) {
+        long start = System.nanoTime();
+        BulkImporter<CompanyRepresentative> importer = new BulkImporter<>(
+                BulkImporter::validateCompanyRep, userLoader::parseCompanyRep, CompanyRepresentative::getUserId)
+                .read(file);
+        int imported = write(() -> {
+            int count = 0;
+            for (BulkImporter.Row<CompanyRepresentative> row : importer.getAccepted()) {
+                CompanyRepresentative rep = row.value;
+                if (isUserIdTaken(rep.getUserId())) {
+                    importer.reject(row.lineNumber, "user ID already exists: " + rep.getUserId());
+                    continue;
+                }
+                companyReps.add(rep);
+                companyRepsById.put(rep.getUserId(), rep);
+                statistics.trackRepresentative(rep);
+                count++;
+            }
+            return count;
+        });
+        return finishImport("company representative", importer, imported, start);
+    }
+
+    /**
+     * Imports internships from a CSV file in the internships.csv layout. Each
+     * imported internship gets a new ID; the file's ID column is ignored. Rows whose
+     * representative does not exist, or whose representative already has an
+     * internship with the same title, are rejected. Accepted rows are added and
+     * indexed in one write transaction and saved once.
+     *
+     * @param file the CSV file
+     * @return the import report
+     * @throws IllegalArgumentException if the file does not exist
+     */
+    public ImportReport importInternships(Path file) {
+        long start = System.nanoTime();
+        BulkImporter<Internship> importer = new BulkImporter<>(
+                BulkImporter::validateInternship, internshipLoader::parseInternship, DataManager::internshipKey)
+                .read(file);
+        int imported = write(() -> {
+            Set<String> existing = new HashSet<>();
+            for (Internship internship : internships) {
+                existing.add(internshipKey(internship));
+            }
+            int count = 0;
+            for (BulkImporter.Row<Internship> row : importer.getAccepted()) {
+                Internship internship = row.value;
+                if (!companyRepsById.containsKey(internship.getRepresentativeInChargeId())) {
+                    importer.reject(row.lineNumber,
+                            "unknown representative: " + internship.getRepresentativeInChargeId());
+                    continue;
+                }
+                if (!existing.add(internshipKey(internship))) {
+                    importer.reject(row.lineNumber, "representative already has an internship titled "
+                            + internship.getTitle());
+                    continue;
+                }
+                internship.setInternshipId(nextInternshipId());
+                internships.add(internship);
+                internshipsById.put(internship.getInternshipId(), internship);
+                internshipIndex.add(internship);
+                textIndex.index(internship);
+                trackDictionaries(internship);
+                statistics.trackInternship(internship);
+                eligibilityIndex.add(internship);
+                recommendationIndex.add(internship);
+                expiryWheel.track(internship);
+                count++;
+            }
+            if (count > 0) {
+                internshipVersion++;
+            }
+            return count;
+        });
+        return finishImport("internship", importer, imported, start);
+    }
+
+    /**
+     * Saves once if anything was imported and builds the report.
+     *
+     * @param kind     what was imported
+     * @param importer the importer holding the rows
+     * @param imported number of rows committed
+     * @param start    start time from {@link System#nanoTime()}
+     * @return the import report
+     */
+    private ImportReport finishImport(String kind, BulkImporter<?> importer, int imported, long start) {
+        if (imported > 0) {
+            saveAllData();
+        }
+        return new ImportReport(kind, importer.getRowsRead(), imported, importer.getRejected(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Checks whether any student, representative or staff member uses an ID.
+     * Caller must hold the lock.
+     *
+     * @param userId the user ID
+     * @return true if the ID is taken
+     */
+    private boolean isUserIdTaken(String userId) {
+        return studentsById.containsKey(userId) || companyRepsById.containsKey(userId) || staffById.containsKey(userId);
+    }
+
+    /**
+     * Gets the key identifying duplicate internships on import.
+     *
+     * @param internship the internship
+     * @return the representative ID and lower-case title
+     */
+    private static String internshipKey(Internship internship) {
+        return internship.getRepresentativeInChargeId() + "|" + internship.getTitle().toLowerCase();
+    }
+
+    /**
+     * Closes every APPROVED internship whose closing date is before today: its
+     * status becomes CLOSED and it is hidden. All indexes are updated in one write
+     * transaction and the data is saved once if anything closed. Runs on load, on
+     * the first browse of each day and from the daily scheduler.
+     *
+     * @return number of internships closed
+     */
+    public int closeExpiredInternships() {
+        int closed = write(() -> closeExpiredLocked(LocalDate.now()));
+        if (closed > 0) {
+            saveAllData();
+        }
+        return closed;
+    }
+
+    /**
+     * Starts a daemon, for long-running servers, that runs
+     * {@link #closeExpiredInternships()} just after each midnight and
+     * {@link #expireStaleOffers()} every {@code internship.offerSweepSeconds}
+     * seconds (default 60). Calling it again has no effect.
+     */
+    public synchronized void startExpiryScheduler() {
+        if (expiryScheduler != null) {
+            return;
+        }
+        expiryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "internship-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNextExpirySweep();
+        if (isOfferExpiryEnabled()) {
+            expiryScheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    expireStaleOffers();
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }, OFFER_SWEEP_SECONDS, OFFER_SWEEP_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Schedules the next expiry sweep for one second past the coming midnight.
+     * Each sweep schedules the next, so the timer follows clock and DST changes.
+     */
+    private void scheduleNextExpirySweep() {
+        LocalDateTime now = LocalDateTime.now();
+        long delayMillis = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay()).toMillis() + 1000;
+        expiryScheduler.schedule(() -> {
+            try {
+                closeExpiredInternships();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            } finally {
+                scheduleNextExpirySweep();
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Closes the internships the expiry wheel has due. Caller must hold the write lock.
+     *
+     * @param today the current date
+     * @return number of internships closed
+     */
+    private int closeExpiredLocked(LocalDate today) {
+        int closed = 0;
+        for (Integer internshipId : expiryWheel.pollDue(today)) {
+            Internship internship = internshipsById.get(internshipId);
+            if (internship == null || internship.getStatus() != InternshipStatus.APPROVED) {
+                continue;
+            }
+            internship.setStatus(InternshipStatus.CLOSED);
+            internship.setVisible(false);
+            internshipIndex.update(internship);
+            textIndex.index(internship);
+            trackDictionaries(internship);
+            statistics.trackInternship(internship);
+            eligibilityIndex.update(internship);
+            recommendationIndex.update(internship);
+            closed++;
+        }
+        if (closed > 0) {
+            internshipVersion++;
+        }
+        return closed;
     }
 
     /**
      * Gets internships filtered by the specified criteria.
+     * The query is driven by the most selective indexed clause; remaining clauses
+     * are applied as residual predicates.
      *
      * @param criteria the filtering criteria
      * @return list of internships matching the criteria, sorted by title
      */
     public List<Internship> getFilteredInternships(FilterCriteria criteria) {
-        return internships.stream()
-                .filter(internship -> criteria.getStatus().map(status -> internship.getStatus() == status).orElse(true))
-                .filter(internship -> criteria.getLevel().map(level -> internship.getLevel() == level).orElse(true))
-                .filter(internship -> criteria.getPreferredMajor()
-                        .map(major -> internship.getPreferredMajor().equalsIgnoreCase(major))
-                        .orElse(true))
-                .filter(internship -> criteria.getCompanyName()
-                        .map(company -> internship.getCompanyName().equalsIgnoreCase(company))
-                        .orElse(true))
-                .filter(internship -> criteria.getClosingDateBefore()
-                        .map(date -> internship.getClosingDate() != null && !internship.getClosingDate().isAfter(date))
-                        .orElse(true))
-                .filter(internship -> criteria.getVisibleOnly()
-                        .map(visible -> visible == internship.isVisible())
-                        .orElse(true))
-                .sorted((a, b) -> a.getTitle().compareToIgnoreCase(b.getTitle()))
-                .collect(Collectors.toList());
+        return read(() -> queryPlanner.execute(queryPlanner.plan(criteria)));
+    }
+
+    /**
+     * Gets one page of internships filtered by the specified criteria.
+     * Pages follow title order; the cursor returned with a page resumes the
+     * listing directly after its last internship, so each page costs work
+     * proportional to the page rather than to the whole catalog.
+     *
+     * @param criteria the filtering criteria
+     * @param filter   additional predicate every internship must satisfy
+     * @param pageSize maximum number of internships on the page
+     * @param cursor   cursor returned with the previous page, or null for the first page
+     * @return the page of matching internships, sorted by title
+     * @throws IllegalArgumentException if the page size is not positive or the cursor is malformed
+     */
+    public Page<Internship> getFilteredInternships(FilterCriteria criteria,
+            Predicate<Internship> filter,
+            int pageSize,
+            String cursor) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        InternshipIndex.TitleKey after = PageCursor.decode(cursor);
+        List<Internship> rows = read(() -> queryPlanner.execute(
+                queryPlanner.plan(criteria, pageSize + 1), filter, after, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+        List<Internship> pageRows = new ArrayList<>(rows.subList(0, pageSize));
+        String nextCursor = PageCursor.encode(InternshipIndex.TitleKey.of(pageRows.get(pageSize - 1)));
+        return new Page<>(pageRows, nextCursor);
+    }
+
+    /**
+     * Gets one page of internships filtered by the specified criteria.
+     *
+     * @param criteria the filtering criteria
+     * @param pageSize maximum number of internships on the page
+     * @param cursor   cursor returned with the previous page, or null for the first page
+     * @return the page of matching internships, sorted by title
+     * @throws IllegalArgumentException if the page size is not positive or the cursor is malformed
+     */
+    public Page<Internship> getFilteredInternships(FilterCriteria criteria, int pageSize, String cursor) {
+        return getFilteredInternships(criteria, internship -> true, pageSize, cursor);
+    }
+
+    /**
+     * Gets the placement dashboard for staff: applications by status, pending
+     * approvals, outstanding withdrawal requests, fill rate per company and
+     * demand against supply per major. Every figure is a running total kept up
+     * to date on each add, update and remove, so building the dashboard takes
+     * time in the number of companies and majors only.
+     *
+     * @return the dashboard
+     */
+    public PlacementDashboard getPlacementDashboard() {
+        return read(() -> statistics.snapshot(withdrawalRequestIds.size()));
+    }
+
+    /**
+     * Gets the number of applications for an internship in each status, from
+     * running totals.
+     *
+     * @param internshipId the internship ID
+     * @return map with an entry for every status
+     */
+    public Map<ApplicationStatus, Integer> getApplicationCounts(int internshipId) {
+        return read(() -> statistics.applicationCounts(internshipId));
+    }
+
+    /**
+     * Completes a typed prefix to the company names of existing internships,
+     * case-insensitively, from a sorted dictionary maintained on every add,
+     * update and remove.
+     *
+     * @param prefix the typed prefix
+     * @param limit  maximum number of names to return
+     * @return matching company names in alphabetical order
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public List<String> completeCompanyNames(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        return read(() -> companyNames.complete(prefix, limit));
+    }
+
+    /**
+     * Completes a typed prefix to the preferred majors of existing internships,
+     * case-insensitively, from a sorted dictionary maintained on every add,
+     * update and remove.
+     *
+     * @param prefix the typed prefix
+     * @param limit  maximum number of majors to return
+     * @return matching majors in alphabetical order
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public List<String> completeMajors(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        return read(() -> majors.complete(prefix, limit));
+    }
+
+    /**
+     * Searches internship titles and descriptions by keyword and returns the best
+     * {@code limit} matches that also satisfy the criteria and the filter. Keywords
+     * are looked up in an inverted index maintained on every add, update and
+     * remove; each keyword also matches words it is a prefix of. Matches are
+     * ranked by BM25 score, title words counting more than description words.
+     *
+     * @param keywords the keywords, separated by spaces or punctuation
+     * @param criteria the filtering criteria
+     * @param filter   additional predicate every internship must satisfy
+     * @param limit    maximum number of internships to return
+     * @return at most limit internships, best match first
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public List<Internship> searchInternships(String keywords,
+            FilterCriteria criteria,
+            Predicate<Internship> filter,
+            int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        return read(() -> {
+            Map<Integer, Double> scores = textIndex.search(keywords);
+            Predicate<Internship> matcher = queryPlanner.matcher(criteria);
+            TopK<Internship> top = new TopK<>(limit, Comparator
+                    .comparingDouble((Internship internship) -> scores.get(internship.getInternshipId()))
+                    .reversed()
+                    .thenComparing(InternshipIndex.TitleKey::of));
+            for (Integer internshipId : scores.keySet()) {
+                Internship internship = internshipsById.get(internshipId);
+                if (internship != null && matcher.test(internship) && filter.test(internship)) {
+                    top.offer(internship);
+                }
+            }
+            return top.toSortedList();
+        });
+    }
+
+    /**
+     * Gets internships a student can apply to today, filtered by criteria.
+     * Candidates come from a materialized set per eligibility bucket (major, and
+     * whether the student is in year 1-2) that is updated as internships change
+     * and as the date rolls over. Results are also cached per criteria and
+     * bucket, so students sharing a bucket reuse each other's results until an
+     * internship changes.
+     *
+     * @param criteria the filtering criteria
+     * @param student  the student browsing
+     * @return list of eligible internships, sorted by title
+     */
+    public List<Internship> getEligibleInternships(FilterCriteria criteria, Student student) {
+        rollEligibilityForward();
+        return read(() -> resolveInternships(eligibleInternshipIds(criteria, student)));
+    }
+
+    /**
+     * Gets one page of internships a student can apply to today.
+     *
+     * @param criteria the filtering criteria
+     * @param student  the student browsing
+     * @param pageSize maximum number of internships on the page
+     * @param cursor   cursor returned with the previous page, or null for the first page
+     * @return the page of eligible internships, sorted by title
+     * @throws IllegalArgumentException if the page size is not positive or the cursor is malformed
+     */
+    public Page<Internship> getEligibleInternships(FilterCriteria criteria,
+            Student student,
+            int pageSize,
+            String cursor) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        InternshipIndex.TitleKey after = PageCursor.decode(cursor);
+        rollEligibilityForward();
+        return read(() -> {
+            List<Integer> ids = eligibleInternshipIds(criteria, student);
+            int start = after == null ? 0 : firstIndexAfter(ids, after);
+            int end = Math.min(start + pageSize, ids.size());
+            List<Internship> pageRows = resolveInternships(ids.subList(start, end));
+            String nextCursor = end < ids.size() && !pageRows.isEmpty()
+                    ? PageCursor.encode(InternshipIndex.TitleKey.of(pageRows.get(pageRows.size() - 1)))
+                    : null;
+            return new Page<>(pageRows, nextCursor);
+        });
+    }
+
+    /**
+     * Gets the internships a student can apply to today, ranked for the student,
+     * and returns the best {@code n}. Scores come from {@link InternshipRecommender}
+     * (level fit, open slots, closing date, waitlist length) and are kept ranked per
+     * major and year class by a {@link RecommendationIndex} as internships and
+     * waitlists change, so the ranking is walked from its head and the walk stops
+     * once n internships match the criteria and the filter.
+     *
+     * @param criteria the filtering criteria
+     * @param student  the student browsing
+     * @param filter   additional predicate every internship must satisfy
+     * @param n        maximum number of recommendations
+     * @return at most n recommendations, best first
+     * @throws IllegalArgumentException if n is not positive
+     */
+    public List<Recommendation> getRecommendedInternships(FilterCriteria criteria,
+            Student student,
+            Predicate<Internship> filter,
+            int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        rollEligibilityForward();
+        return read(() -> {
+            Predicate<Internship> matcher = queryPlanner.matcher(criteria);
+            List<Recommendation> result = new ArrayList<>(n);
+            for (Recommendation recommendation : recommendationIndex.ranked(student.getMajor(),
+                    student.getYearOfStudy())) {
+                Internship internship = recommendation.getInternship();
+                if (matcher.test(internship) && filter.test(internship)) {
+                    result.add(recommendation);
+                    if (result.size() == n) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Gets the number of browse queries answered from the query cache.
+     *
+     * @return the cache hit count
+     */
+    public long getQueryCacheHits() {
+        return queryCache.getHits();
+    }
+
+    /**
+     * Gets the number of browse queries that missed the query cache.
+     *
+     * @return the cache miss count
+     */
+    public long getQueryCacheMisses() {
+        return queryCache.getMisses();
+    }
+
+    /**
+     * Gets the fraction of browse queries answered from the query cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if no queries have been made
+     */
+    public double getQueryCacheHitRate() {
+        long hits = queryCache.getHits();
+        long total = hits + queryCache.getMisses();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Describes how {@link #getFilteredInternships(FilterCriteria)} would evaluate
+     * the given criteria: the chosen access path, its estimated row count and the
+     * residual predicates.
+     *
+     * @param criteria the filtering criteria
+     * @return a human-readable query plan
+     */
+    public String explainFilteredInternships(FilterCriteria criteria) {
+        return read(() -> queryPlanner.plan(criteria).explain());
     }
 
     /**
@@ -375,6 +1457,207 @@ public class DataManager {
         return idGenerator.next("application");
     }
 
+    /**
+     * Returns the IDs the calling thread leased but did not use, so other
+     * threads reuse them. Server sessions call this when they end; it does
+     * nothing unless ID blocks are enabled with {@code internship.idBlockSize}.
+     */
+    public void releaseLeasedIds() {
+        idGenerator.release();
+    }
+
+    /**
+     * Closes internships that have passed their closing date and moves the
+     * materialized eligibility sets to today's date, if either is due. The common
+     * case only takes a read lock; the work itself is done after upgrading to the
+     * write lock. Closing runs first, so the eligibility sets never need to check
+     * closing dates themselves.
+     */
+    private void rollEligibilityForward() {
+        LocalDate today = LocalDate.now();
+        int closed;
+        if (writeOwner == Thread.currentThread()) {
+            closed = closeExpiredLocked(today);
+            eligibilityIndex.rollTo(today);
+            recommendationIndex.rollTo(today);
+        } else {
+            long stamp = lock.readLock();
+            try {
+                if (!eligibilityIndex.needsRollover(today) && !expiryWheel.hasDue(today)) {
+                    return;
+                }
+                long writeStamp = lock.tryConvertToWriteLock(stamp);
+                if (writeStamp == 0L) {
+                    lock.unlockRead(stamp);
+                    stamp = lock.writeLock();
+                } else {
+                    stamp = writeStamp;
+                }
+                writeOwner = Thread.currentThread();
+                try {
+                    closed = closeExpiredLocked(today);
+                    eligibilityIndex.rollTo(today);
+                    recommendationIndex.rollTo(today);
+                } finally {
+                    writeOwner = null;
+                }
+            } finally {
+                lock.unlock(stamp);
+            }
+        }
+        if (closed > 0) {
+            saveAllData();
+        }
+    }
+
+    /**
+     * Runs an action under the shared read lock. A thread that already holds
+     * the write lock runs it directly.
+     *
+     * @param action the action to run
+     * @param <T>    the result type
+     * @return the action's result
+     */
+    private <T> T read(Supplier<T> action) {
+        if (writeOwner == Thread.currentThread()) {
+            return action.get();
+        }
+        long stamp = lock.readLock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a single-map lookup as an optimistic read: no lock is taken unless a
+     * writer ran concurrently, in which case the lookup is repeated under the
+     * read lock. Only used for reads of the concurrent ID maps, which stay
+     * consistent on their own while a writer is active.
+     *
+     * @param action the lookup to run
+     * @param <T>    the result type
+     * @return the lookup's result
+     */
+    private <T> T optimisticRead(Supplier<T> action) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            T result = action.get();
+            if (lock.validate(stamp)) {
+                return result;
+            }
+        }
+        return read(action);
+    }
+
+    /**
+     * Runs an action under the exclusive write lock. Reentrant for the thread
+     * that already holds it.
+     *
+     * @param action the action to run
+     * @param <T>    the result type
+     * @return the action's result
+     */
+    private <T> T write(Supplier<T> action) {
+        if (writeOwner == Thread.currentThread()) {
+            return action.get();
+        }
+        long stamp = lock.writeLock();
+        writeOwner = Thread.currentThread();
+        try {
+            return action.get();
+        } finally {
+            writeOwner = null;
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Runs an action under the exclusive write lock.
+     *
+     * @param action the action to run
+     */
+    private void write(Runnable action) {
+        write(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Gets the IDs of internships a student can apply to today, in title order.
+     * Served from the query cache when possible, otherwise read directly from the
+     * student's materialized eligibility set with the criteria applied on top.
+     * Caller must hold the read lock.
+     *
+     * @param criteria the filtering criteria
+     * @param student  the student browsing
+     * @return list of eligible internship IDs
+     */
+    private List<Integer> eligibleInternshipIds(FilterCriteria criteria, Student student) {
+        LocalDate today = LocalDate.now();
+        boolean junior = student.getYearOfStudy() <= 2;
+        String key = criteria.normalizedKey()
+                + "|eligibleMajor=" + InternshipIndex.normalize(student.getMajor())
+                + "|junior=" + junior
+                + "|date=" + today;
+        List<Integer> cached = queryCache.get(key, internshipVersion);
+        if (cached != null) {
+            return cached;
+        }
+        Predicate<Internship> matcher = queryPlanner.matcher(criteria);
+        List<Integer> ids = new ArrayList<>();
+        for (InternshipIndex.TitleKey titleKey : eligibilityIndex.eligible(student.getMajor(), junior)) {
+            Internship internship = internshipsById.get(titleKey.internshipId);
+            if (internship != null && matcher.test(internship)) {
+                ids.add(titleKey.internshipId);
+            }
+        }
+        queryCache.put(key, internshipVersion, ids);
+        return ids;
+    }
+
+    /**
+     * Finds the position of the first ID in a title-ordered list that sorts after
+     * the given key.
+     *
+     * @param ids   internship IDs in title order
+     * @param after the title-order position
+     * @return index of the first ID after the key, or the list size if none
+     */
+    private int firstIndexAfter(List<Integer> ids, InternshipIndex.TitleKey after) {
+        int low = 0;
+        int high = ids.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Internship internship = internshipsById.get(ids.get(mid));
+            if (InternshipIndex.TitleKey.of(internship).compareTo(after) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Resolves internship IDs to internships, skipping IDs that no longer exist.
+     *
+     * @param ids the internship IDs
+     * @return list of internships in the same order
+     */
+    private List<Internship> resolveInternships(List<Integer> ids) {
+        List<Internship> result = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Internship internship = internshipsById.get(id);
+            if (internship != null) {
+                result.add(internship);
+            }
+        }
+        return result;
+    }
+
     /**
      * Reconciles confirmed offers count for internships based on accepted applications.
      * Updates internship status to FILLED if all slots are taken.
@@ -423,5 +1706,18 @@ public class DataManager {
         staffById.clear();
         internshipsById.clear();
         applicationsById.clear();
+        withdrawalRequestIds.clear();
+        offerQueue.clear();
+        waitlist.clear();
+        internshipIndex.clear();
+        textIndex.clear();
+        companyNames.clear();
+        majors.clear();
+        statistics.clear();
+        eligibilityIndex.clear();
+        recommendationIndex.clear();
+        expiryWheel.clear();
+        queryCache.clear();
+        internshipVersion++;
     }
 }
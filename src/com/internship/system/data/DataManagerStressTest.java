@@ -0,0 +1,233 @@
+package com.internship.system.data;
+
+import com.internship.system.model.Application;
+import com.internship.system.model.FilterCriteria;
+import com.internship.system.model.Internship;
+import com.internship.system.model.enums.ApplicationStatus;
+import com.internship.system.model.enums.InternshipLevel;
+import com.internship.system.model.enums.InternshipStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command-line stress test for {@link DataManager} under concurrent sessions.
+ * Each thread runs a mixed workload against an in-memory catalog (70% ID
+ * lookups, 20% company-filtered queries, 7% read-then-update transactions, 3%
+ * application inserts) for a fixed time. Each thread count is run twice: once
+ * relying on DataManager's own locking, once with every operation also wrapped
+ * in a single global lock, for comparison. After each run the ID maps, the
+ * company index and the application list are checked against each other. A
+ * one-second run in each mode warms up the JIT first and is not reported.
+ * Nothing is read from or written to the CSV files.
+ * <p>
+ * Usage: {@code DataManagerStressTest [seconds] [threadCounts...]},
+ * e.g. {@code DataManagerStressTest 3 1 4 16}
+ */
+public class DataManagerStressTest {
+    /** Internships in the catalog. */
+    private static final int INTERNSHIPS = 2000;
+    /** Companies the catalog is spread over. */
+    private static final String[] COMPANIES = {"Google", "Shopee", "Grab", "DBS"};
+    /** Majors the catalog is spread over. */
+    private static final String[] MAJORS = {"Computer Science", "Data Science & AI", "Computer Engineering", "Business"};
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DataManagerStressTest() {
+    }
+
+    /**
+     * Runs the stress test.
+     *
+     * @param args command-line arguments (see class documentation)
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            threadCounts.add(Integer.parseInt(args[i]));
+        }
+        if (threadCounts.isEmpty()) {
+            threadCounts = List.of(1, 4, 16);
+        }
+
+        System.out.printf("%d internships, %d s per run, %d CPU(s)%n",
+                INTERNSHIPS, seconds, Runtime.getRuntime().availableProcessors());
+        // Warm up the JIT so the first measured run is not penalized.
+        run(threadCounts.get(0), 1, false);
+        run(threadCounts.get(0), 1, true);
+        System.out.printf("%-8s %16s %20s%n", "threads", "DataManager", "single global lock");
+        boolean consistent = true;
+        for (int threads : threadCounts) {
+            Result own = run(threads, seconds, false);
+            Result global = run(threads, seconds, true);
+            System.out.printf("%-8d %11.1fk ops/s %15.1fk ops/s%n",
+                    threads, own.opsPerSecond / 1000, global.opsPerSecond / 1000);
+            for (Result result : List.of(own, global)) {
+                if (result.problem != null) {
+                    System.out.println("  INCONSISTENT: " + result.problem);
+                    consistent = false;
+                }
+            }
+        }
+        System.out.println(consistent ? "All runs consistent." : "Some runs were inconsistent.");
+        if (!consistent) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the workload once on a fresh catalog.
+     *
+     * @param threads    number of worker threads
+     * @param seconds    how long to run
+     * @param globalLock whether to also wrap every operation in one global lock
+     * @return throughput and the first consistency problem found, if any
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    private static Result run(int threads, int seconds, boolean globalLock) throws InterruptedException {
+        DataManager dataManager = new DataManager();
+        Random setup = new Random(1);
+        for (int i = 0; i < INTERNSHIPS; i++) {
+            dataManager.addInternship(randomInternship(setup, dataManager.nextInternshipId()));
+        }
+        Object lock = new Object();
+        LongAdder operations = new LongAdder();
+        LongAdder inserted = new LongAdder();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Random random = new Random(t);
+            workers.add(new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Runnable operation = nextOperation(dataManager, random, inserted);
+                        if (globalLock) {
+                            synchronized (lock) {
+                                operation.run();
+                            }
+                        } else {
+                            operation.run();
+                        }
+                        operations.increment();
+                    }
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            }, "stress-worker-" + t));
+        }
+        long start = System.nanoTime();
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        String problem = failure.get() != null ? "worker failed: " + failure.get() : check(dataManager, inserted.sum());
+        return new Result(operations.sum() / elapsed, problem);
+    }
+
+    private static Runnable nextOperation(DataManager dataManager, Random random, LongAdder inserted) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            int internshipId = 1 + random.nextInt(INTERNSHIPS);
+            return () -> dataManager.findInternshipById(internshipId);
+        }
+        if (roll < 90) {
+            FilterCriteria criteria = FilterCriteria.builder()
+                    .companyName(COMPANIES[random.nextInt(COMPANIES.length)])
+                    .build();
+            return () -> {
+                if (dataManager.getFilteredInternships(criteria).isEmpty()) {
+                    throw new IllegalStateException("company query returned nothing");
+                }
+            };
+        }
+        if (roll < 97) {
+            int internshipId = 1 + random.nextInt(INTERNSHIPS);
+            String title = "Title " + random.nextInt(1000);
+            return () -> dataManager.inTransaction(() -> {
+                dataManager.findInternshipById(internshipId).ifPresent(internship -> {
+                    internship.setTitle(title);
+                    dataManager.updateInternship(internship);
+                });
+                return null;
+            });
+        }
+        return () -> {
+            dataManager.addApplication(new Application(
+                    dataManager.nextApplicationId(), "S", 1, ApplicationStatus.PENDING));
+            inserted.increment();
+        };
+    }
+
+    /**
+     * Checks that the ID map, the company index and the application list agree.
+     *
+     * @param dataManager the data manager after a run
+     * @param inserted    number of applications inserted during the run
+     * @return a description of the first problem found, or null if consistent
+     */
+    private static String check(DataManager dataManager, long inserted) {
+        List<Internship> internships = dataManager.getInternships();
+        if (internships.size() != INTERNSHIPS) {
+            return internships.size() + " internships, expected " + INTERNSHIPS;
+        }
+        for (Internship internship : internships) {
+            if (dataManager.findInternshipById(internship.getInternshipId()).isEmpty()) {
+                return "internship " + internship.getInternshipId() + " missing from the ID map";
+            }
+        }
+        int indexed = 0;
+        for (String company : COMPANIES) {
+            indexed += dataManager.getFilteredInternships(
+                    FilterCriteria.builder().companyName(company).build()).size();
+        }
+        if (indexed != INTERNSHIPS) {
+            return indexed + " internships in the company index, expected " + INTERNSHIPS;
+        }
+        if (dataManager.getApplications().size() != inserted) {
+            return dataManager.getApplications().size() + " applications, expected " + inserted;
+        }
+        return null;
+    }
+
+    private static Internship randomInternship(Random random, int internshipId) {
+        LocalDate today = LocalDate.now();
+        return new Internship(internshipId,
+                "Title " + (char) ('a' + random.nextInt(26)) + random.nextInt(50),
+                "Description",
+                InternshipLevel.values()[random.nextInt(InternshipLevel.values().length)],
+                MAJORS[random.nextInt(MAJORS.length)],
+                today.minusDays(random.nextInt(10)),
+                today.plusDays(1 + random.nextInt(20)),
+                random.nextInt(5) == 0 ? InternshipStatus.PENDING : InternshipStatus.APPROVED,
+                COMPANIES[random.nextInt(COMPANIES.length)],
+                "REP" + random.nextInt(4),
+                1 + random.nextInt(5),
+                true,
+                0);
+    }
+
+    /**
+     * Outcome of one run.
+     */
+    private static final class Result {
+        private final double opsPerSecond;
+        private final String problem;
+
+        private Result(double opsPerSecond, String problem) {
+            this.opsPerSecond = opsPerSecond;
+            this.problem = problem;
+        }
+    }
+}
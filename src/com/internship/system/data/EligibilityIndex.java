@@ -0,0 +1,249 @@
+package com.internship.system.data;
+
+import com.internship.system.model.Internship;
+import com.internship.system.model.enums.InternshipLevel;
+import com.internship.system.model.enums.InternshipStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Materialized sets of the internships students can apply to, one per
+ * eligibility bucket: a normalized major plus whether the student is in year 1-2.
+ * Sets are kept current as of a reference date. When the date moves forward only
+ * internships whose opening date was crossed are re-evaluated. Closing dates are
+ * not checked here: internships past their closing date are CLOSED by the
+ * {@link ExpiryWheel} sweep, which DataManager runs before each rollover, and leave
+ * the sets through the resulting status update.
+ */
+class EligibilityIndex {
+    /** Eligible internships per bucket, in title order. */
+    private final Map<String, NavigableSet<InternshipIndex.TitleKey>> buckets = new HashMap<>();
+    /** Buckets and title key each internship is currently listed under. */
+    private final Map<Integer, Membership> memberships = new HashMap<>();
+    /** Every tracked internship, by ID. */
+    private final Map<Integer, Internship> tracked = new HashMap<>();
+    /** Tracked internship IDs by opening date. */
+    private final NavigableMap<LocalDate, Set<Integer>> byOpeningDate = new TreeMap<>();
+    /** Opening date each internship was tracked under. */
+    private final Map<Integer, LocalDate> trackedOpeningDates = new HashMap<>();
+    /** Date the sets are current for. */
+    private LocalDate asOf;
+
+    /**
+     * Constructs a new EligibilityIndex current as of the given date.
+     *
+     * @param asOf the reference date
+     */
+    EligibilityIndex(LocalDate asOf) {
+        this.asOf = asOf;
+    }
+
+    /**
+     * Gets the internships eligible for a bucket, in title order.
+     *
+     * @param major  the student's major
+     * @param junior whether the student is in year 1-2
+     * @return unmodifiable view of the eligible internships' title keys
+     */
+    NavigableSet<InternshipIndex.TitleKey> eligible(String major, boolean junior) {
+        NavigableSet<InternshipIndex.TitleKey> bucket = buckets.get(bucketKey(InternshipIndex.normalize(major), junior));
+        return bucket == null
+                ? Collections.emptyNavigableSet()
+                : Collections.unmodifiableNavigableSet(bucket);
+    }
+
+    /**
+     * Starts tracking an internship.
+     *
+     * @param internship the internship to add
+     */
+    void add(Internship internship) {
+        int internshipId = internship.getInternshipId();
+        tracked.put(internshipId, internship);
+        LocalDate openingDate = internship.getOpeningDate();
+        if (openingDate != null) {
+            trackedOpeningDates.put(internshipId, openingDate);
+        }
+        addToDateBucket(byOpeningDate, openingDate, internshipId);
+        evaluate(internship);
+    }
+
+    /**
+     * Re-evaluates an internship after its fields have changed.
+     *
+     * @param internship the internship with updated data
+     */
+    void update(Internship internship) {
+        remove(internship.getInternshipId());
+        add(internship);
+    }
+
+    /**
+     * Stops tracking an internship.
+     *
+     * @param internshipId the ID of the internship to remove
+     */
+    void remove(int internshipId) {
+        unlist(internshipId);
+        tracked.remove(internshipId);
+        removeFromDateBucket(byOpeningDate, trackedOpeningDates.remove(internshipId), internshipId);
+    }
+
+    /**
+     * Clears all sets.
+     */
+    void clear() {
+        buckets.clear();
+        memberships.clear();
+        tracked.clear();
+        byOpeningDate.clear();
+        trackedOpeningDates.clear();
+    }
+
+    /**
+     * Checks whether the sets must be rolled to a new date.
+     *
+     * @param today the current date
+     * @return true if the reference date differs from today
+     */
+    boolean needsRollover(LocalDate today) {
+        return !today.equals(asOf);
+    }
+
+    /**
+     * Moves the reference date to today. Only internships that opened after the
+     * old date and on or before today are re-evaluated; moving backwards
+     * re-evaluates everything.
+     *
+     * @param today the new reference date
+     */
+    void rollTo(LocalDate today) {
+        if (today.equals(asOf)) {
+            return;
+        }
+        LocalDate previous = asOf;
+        asOf = today;
+        List<Integer> affected = new ArrayList<>();
+        if (today.isBefore(previous)) {
+            affected.addAll(tracked.keySet());
+        } else {
+            for (Set<Integer> ids : byOpeningDate.subMap(previous, false, today, true).values()) {
+                affected.addAll(ids);
+            }
+        }
+        for (Integer internshipId : affected) {
+            Internship internship = tracked.get(internshipId);
+            if (internship != null) {
+                unlist(internshipId);
+                evaluate(internship);
+            }
+        }
+    }
+
+    /**
+     * Lists an internship in every bucket it is eligible for as of the reference date.
+     *
+     * @param internship the internship
+     */
+    private void evaluate(Internship internship) {
+        if (!isOpenTo(internship, asOf)) {
+            return;
+        }
+        String major = InternshipIndex.normalize(internship.getPreferredMajor());
+        InternshipIndex.TitleKey titleKey = InternshipIndex.TitleKey.of(internship);
+        List<String> keys = new ArrayList<>(2);
+        keys.add(bucketKey(major, false));
+        if (internship.getLevel() == InternshipLevel.BASIC) {
+            keys.add(bucketKey(major, true));
+        }
+        for (String key : keys) {
+            buckets.computeIfAbsent(key, k -> new TreeSet<>()).add(titleKey);
+        }
+        memberships.put(internship.getInternshipId(), new Membership(titleKey, keys));
+    }
+
+    /**
+     * Removes an internship from every bucket it is listed in.
+     *
+     * @param internshipId the internship ID
+     */
+    private void unlist(int internshipId) {
+        Membership membership = memberships.remove(internshipId);
+        if (membership == null) {
+            return;
+        }
+        for (String key : membership.bucketKeys) {
+            NavigableSet<InternshipIndex.TitleKey> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(membership.titleKey);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether students of the internship's preferred major can apply to it
+     * on a date, level aside: it must be APPROVED, visible, have a slot open and
+     * have opened.
+     *
+     * @param internship the internship
+     * @param date       the date
+     * @return true if the internship takes applications on that date
+     */
+    static boolean isOpenTo(Internship internship, LocalDate date) {
+        return internship.getStatus() == InternshipStatus.APPROVED
+                && internship.isVisible()
+                && internship.hasAvailableSlots()
+                && (internship.getOpeningDate() == null || !date.isBefore(internship.getOpeningDate()))
+                && internship.getPreferredMajor() != null;
+    }
+
+    private static String bucketKey(String normalizedMajor, boolean junior) {
+        return (junior ? "junior|" : "senior|") + normalizedMajor;
+    }
+
+    private static void addToDateBucket(Map<LocalDate, Set<Integer>> byDate, LocalDate date, int internshipId) {
+        if (date != null) {
+            byDate.computeIfAbsent(date, key -> new LinkedHashSet<>()).add(internshipId);
+        }
+    }
+
+    private static void removeFromDateBucket(Map<LocalDate, Set<Integer>> byDate, LocalDate date, int internshipId) {
+        if (date == null) {
+            return;
+        }
+        Set<Integer> ids = byDate.get(date);
+        if (ids != null) {
+            ids.remove(internshipId);
+            if (ids.isEmpty()) {
+                byDate.remove(date);
+            }
+        }
+    }
+
+    /**
+     * Buckets an internship is listed in, with the title key it was listed under.
+     */
+    private static final class Membership {
+        private final InternshipIndex.TitleKey titleKey;
+        private final List<String> bucketKeys;
+
+        private Membership(InternshipIndex.TitleKey titleKey, List<String> bucketKeys) {
+            this.titleKey = titleKey;
+            this.bucketKeys = bucketKeys;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.internship.system.data;
+
+import com.internship.system.model.Internship;
+import com.internship.system.model.enums.InternshipStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Day-bucketed timer for closing internships once their closing date has passed.
+ * Only APPROVED internships with a closing date are tracked, one bucket per
+ * closing date, so each day's sweep touches just the buckets that have fallen due
+ * and a bucket is dropped once it has been swept.
+ */
+class ExpiryWheel {
+    /** Tracked internship IDs by closing date. */
+    private final NavigableMap<LocalDate, Set<Integer>> byClosingDate = new TreeMap<>();
+    /** Closing date each internship is tracked under. */
+    private final Map<Integer, LocalDate> trackedDates = new HashMap<>();
+
+    /**
+     * Tracks an internship if it is APPROVED and has a closing date, replacing
+     * any earlier entry for it.
+     *
+     * @param internship the internship
+     */
+    void track(Internship internship) {
+        remove(internship.getInternshipId());
+        LocalDate closingDate = internship.getClosingDate();
+        if (internship.getStatus() != InternshipStatus.APPROVED || closingDate == null) {
+            return;
+        }
+        byClosingDate.computeIfAbsent(closingDate, key -> new LinkedHashSet<>()).add(internship.getInternshipId());
+        trackedDates.put(internship.getInternshipId(), closingDate);
+    }
+
+    /**
+     * Stops tracking an internship.
+     *
+     * @param internshipId the internship ID
+     */
+    void remove(int internshipId) {
+        LocalDate closingDate = trackedDates.remove(internshipId);
+        if (closingDate == null) {
+            return;
+        }
+        Set<Integer> ids = byClosingDate.get(closingDate);
+        if (ids != null) {
+            ids.remove(internshipId);
+            if (ids.isEmpty()) {
+                byClosingDate.remove(closingDate);
+            }
+        }
+    }
+
+    /**
+     * Checks whether any tracked internship closed before today.
+     *
+     * @param today the current date
+     * @return true if a sweep would find work
+     */
+    boolean hasDue(LocalDate today) {
+        return !byClosingDate.isEmpty() && byClosingDate.firstKey().isBefore(today);
+    }
+
+    /**
+     * Removes and returns every tracked internship that closed before today.
+     *
+     * @param today the current date
+     * @return IDs of the internships due, earliest closing date first
+     */
+    List<Integer> pollDue(LocalDate today) {
+        List<Integer> due = new ArrayList<>();
+        NavigableMap<LocalDate, Set<Integer>> expired = byClosingDate.headMap(today, false);
+        for (Set<Integer> ids : expired.values()) {
+            for (Integer internshipId : ids) {
+                trackedDates.remove(internshipId);
+                due.add(internshipId);
+            }
+        }
+        expired.clear();
+        return due;
+    }
+
+    /**
+     * Stops tracking everything.
+     */
+    void clear() {
+        byClosingDate.clear();
+        trackedDates.clear();
+    }
+}
@@ -0,0 +1,273 @@
+package com.internship.system.data;
+
+import com.internship.system.model.Internship;
+import com.internship.system.model.enums.InternshipStatus;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Secondary access paths over internships used by the query planner.
+ * Keeps per-status, per-company, per-major and per-closing-date buckets plus a
+ * title-ordered set, together with the field values each internship was indexed
+ * under so that entries can be removed after the internship has been mutated.
+ */
+class InternshipIndex {
+    /** Ordering used for all internship listings: title (case-insensitive), then ID. */
+    static final Comparator<Internship> TITLE_ORDER = Comparator
+            .comparing(Internship::getTitle, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER))
+            .thenComparingInt(Internship::getInternshipId);
+
+    /** Field values each internship was last indexed under, keyed by internship ID. */
+    private final Map<Integer, IndexedFields> indexed = new HashMap<>();
+    /** Internship IDs grouped by status. */
+    private final Map<InternshipStatus, Set<Integer>> byStatus = new EnumMap<>(InternshipStatus.class);
+    /** Internship IDs grouped by normalized company name. */
+    private final Map<String, Set<Integer>> byCompany = new HashMap<>();
+    /** Internship IDs grouped by normalized preferred major. */
+    private final Map<String, Set<Integer>> byMajor = new HashMap<>();
+    /** Internship IDs grouped by closing date, in date order. Internships without a closing date are omitted. */
+    private final NavigableMap<LocalDate, Set<Integer>> byClosingDate = new TreeMap<>();
+    /** All internships in title order. */
+    private final NavigableSet<TitleKey> byTitle = new TreeSet<>();
+
+    /**
+     * Adds an internship to every access path.
+     *
+     * @param internship the internship to index
+     */
+    void add(Internship internship) {
+        IndexedFields fields = new IndexedFields(internship);
+        indexed.put(fields.internshipId, fields);
+        if (fields.status != null) {
+            byStatus.computeIfAbsent(fields.status, key -> new LinkedHashSet<>()).add(fields.internshipId);
+        }
+        byCompany.computeIfAbsent(fields.company, key -> new LinkedHashSet<>()).add(fields.internshipId);
+        byMajor.computeIfAbsent(fields.major, key -> new LinkedHashSet<>()).add(fields.internshipId);
+        if (fields.closingDate != null) {
+            byClosingDate.computeIfAbsent(fields.closingDate, key -> new LinkedHashSet<>()).add(fields.internshipId);
+        }
+        byTitle.add(fields.titleKey);
+    }
+
+    /**
+     * Re-indexes an internship after its fields have changed.
+     *
+     * @param internship the internship with updated data
+     */
+    void update(Internship internship) {
+        remove(internship.getInternshipId());
+        add(internship);
+    }
+
+    /**
+     * Removes an internship from every access path.
+     *
+     * @param internshipId the ID of the internship to remove
+     */
+    void remove(int internshipId) {
+        IndexedFields fields = indexed.remove(internshipId);
+        if (fields == null) {
+            return;
+        }
+        removeFromBucket(byStatus, fields.status, internshipId);
+        removeFromBucket(byCompany, fields.company, internshipId);
+        removeFromBucket(byMajor, fields.major, internshipId);
+        removeFromBucket(byClosingDate, fields.closingDate, internshipId);
+        byTitle.remove(fields.titleKey);
+    }
+
+    /**
+     * Clears all access paths.
+     */
+    void clear() {
+        indexed.clear();
+        byStatus.clear();
+        byCompany.clear();
+        byMajor.clear();
+        byClosingDate.clear();
+        byTitle.clear();
+    }
+
+    /**
+     * Gets the number of indexed internships.
+     *
+     * @return the number of internships
+     */
+    int size() {
+        return indexed.size();
+    }
+
+    /**
+     * Gets the IDs of internships with the given status.
+     *
+     * @param status the status
+     * @return unmodifiable set of matching IDs
+     */
+    Set<Integer> idsByStatus(InternshipStatus status) {
+        return unmodifiable(byStatus.get(status));
+    }
+
+    /**
+     * Gets the IDs of internships offered by the given company (case-insensitive).
+     *
+     * @param companyName the company name
+     * @return unmodifiable set of matching IDs
+     */
+    Set<Integer> idsByCompany(String companyName) {
+        return unmodifiable(byCompany.get(normalize(companyName)));
+    }
+
+    /**
+     * Gets the IDs of internships preferring the given major (case-insensitive).
+     *
+     * @param major the preferred major
+     * @return unmodifiable set of matching IDs
+     */
+    Set<Integer> idsByMajor(String major) {
+        return unmodifiable(byMajor.get(normalize(major)));
+    }
+
+    /**
+     * Gets the closing-date buckets on or before the given date.
+     *
+     * @param date the inclusive upper bound
+     * @return view of the matching buckets, in date order
+     */
+    NavigableMap<LocalDate, Set<Integer>> closingOnOrBefore(LocalDate date) {
+        return Collections.unmodifiableNavigableMap(byClosingDate.headMap(date, true));
+    }
+
+    /**
+     * Counts internships closing on or before the given date.
+     * Walks the distinct closing dates rather than the internships themselves.
+     *
+     * @param date the inclusive upper bound
+     * @return the number of matching internships
+     */
+    int countClosingOnOrBefore(LocalDate date) {
+        int count = 0;
+        for (Set<Integer> bucket : byClosingDate.headMap(date, true).values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * Gets every indexed internship in title order.
+     *
+     * @return unmodifiable view of the title-ordered keys
+     */
+    NavigableSet<TitleKey> titleOrder() {
+        return Collections.unmodifiableNavigableSet(byTitle);
+    }
+
+    /**
+     * Normalizes a string key for case-insensitive bucket lookups.
+     *
+     * @param value the raw value (may be null)
+     * @return the lower-cased value, or empty string if null
+     */
+    static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> void removeFromBucket(Map<K, Set<Integer>> buckets, K key, int internshipId) {
+        if (key == null) {
+            return;
+        }
+        Set<Integer> bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.remove(internshipId);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private static Set<Integer> unmodifiable(Set<Integer> bucket) {
+        return bucket == null ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+    }
+
+    /**
+     * Position of an internship in title order.
+     */
+    static final class TitleKey implements Comparable<TitleKey> {
+        /** Title the internship was indexed under. */
+        final String title;
+        /** Internship ID, used as a tie-breaker between equal titles. */
+        final int internshipId;
+
+        /**
+         * Constructs a new TitleKey.
+         *
+         * @param title        the internship title
+         * @param internshipId the internship ID
+         */
+        TitleKey(String title, int internshipId) {
+            this.title = title == null ? "" : title;
+            this.internshipId = internshipId;
+        }
+
+        /**
+         * Gets the current title-order position of an internship.
+         *
+         * @param internship the internship
+         * @return the position key
+         */
+        static TitleKey of(Internship internship) {
+            return new TitleKey(internship.getTitle(), internship.getInternshipId());
+        }
+
+        @Override
+        public int compareTo(TitleKey other) {
+            int byTitleText = String.CASE_INSENSITIVE_ORDER.compare(title, other.title);
+            return byTitleText != 0 ? byTitleText : Integer.compare(internshipId, other.internshipId);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TitleKey other)) {
+                return false;
+            }
+            return compareTo(other) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * title.toLowerCase(Locale.ROOT).hashCode() + internshipId;
+        }
+    }
+
+    /**
+     * Snapshot of the indexed fields of one internship.
+     */
+    private static final class IndexedFields {
+        private final int internshipId;
+        private final InternshipStatus status;
+        private final String company;
+        private final String major;
+        private final LocalDate closingDate;
+        private final TitleKey titleKey;
+
+        private IndexedFields(Internship internship) {
+            this.internshipId = internship.getInternshipId();
+            this.status = internship.getStatus();
+            this.company = normalize(internship.getCompanyName());
+            this.major = normalize(internship.getPreferredMajor());
+            this.closingDate = internship.getClosingDate();
+            this.titleKey = TitleKey.of(internship);
+        }
+    }
+}
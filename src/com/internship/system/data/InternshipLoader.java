@@ -10,8 +10,10 @@ import com.internship.system.util.CsvUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -40,36 +42,10 @@ public class InternshipLoader {
         try {
             List<String> lines = Files.readAllLines(path);
             for (int i = 1; i < lines.size(); i++) {
-                List<String> tokens = CsvUtils.parseLine(lines.get(i));
-                if (tokens.size() < 12) {
-                    continue;
+                Internship internship = parseInternship(CsvUtils.parseLine(lines.get(i)));
+                if (internship != null) {
+                    internships.add(internship);
                 }
-                int internshipId = parseInt(tokens.get(0), 0);
-                String title = tokens.get(1);
-                String description = tokens.get(2);
-                InternshipLevel level = parseLevel(tokens.get(3));
-                String preferredMajor = tokens.get(4);
-                LocalDate openingDate = parseDate(tokens.get(5));
-                LocalDate closingDate = parseDate(tokens.get(6));
-                InternshipStatus status = parseStatus(tokens.get(7));
-                String companyName = tokens.get(8);
-                String representativeId = tokens.get(9);
-                int slots = parseInt(tokens.get(10), 0);
-                boolean visible = Boolean.parseBoolean(tokens.get(11));
-                internships.add(new Internship(
-                        internshipId,
-                        title,
-                        description,
-                        level,
-                        preferredMajor,
-                        openingDate,
-                        closingDate,
-                        status,
-                        companyName,
-                        representativeId,
-                        slots,
-                        visible,
-                        0));
             }
         } catch (IOException e) {
             throw new RuntimeException("Failed to load internships from " + filePath, e);
@@ -77,6 +53,46 @@ public class InternshipLoader {
         return internships;
     }
 
+    /**
+     * Builds an internship from the tokens of one internships.csv row.
+     * Confirmed offers start at 0 and are reconciled from applications after loading.
+     *
+     * @param tokens the parsed row
+     * @return the internship, or null if the row has too few columns
+     * @throws java.time.format.DateTimeParseException if a date is malformed
+     */
+    Internship parseInternship(List<String> tokens) {
+        if (tokens.size() < 12) {
+            return null;
+        }
+        int internshipId = parseInt(tokens.get(0), 0);
+        String title = tokens.get(1);
+        String description = tokens.get(2);
+        InternshipLevel level = parseLevel(tokens.get(3));
+        String preferredMajor = tokens.get(4);
+        LocalDate openingDate = parseDate(tokens.get(5));
+        LocalDate closingDate = parseDate(tokens.get(6));
+        InternshipStatus status = parseStatus(tokens.get(7));
+        String companyName = tokens.get(8);
+        String representativeId = tokens.get(9);
+        int slots = parseInt(tokens.get(10), 0);
+        boolean visible = Boolean.parseBoolean(tokens.get(11));
+        return new Internship(
+                internshipId,
+                title,
+                description,
+                level,
+                preferredMajor,
+                openingDate,
+                closingDate,
+                status,
+                companyName,
+                representativeId,
+                slots,
+                visible,
+                0);
+    }
+
     /**
      * Loads applications from a CSV file.
      *
@@ -103,7 +119,11 @@ public class InternshipLoader {
                 int internshipId = parseInt(tokens.get(2), 0);
                 ApplicationStatus status = parseApplicationStatus(tokens.get(3));
                 boolean withdrawalRequested = tokens.size() > 4 && Boolean.parseBoolean(tokens.get(4));
-                applications.add(new Application(applicationId, studentId, internshipId, status, withdrawalRequested));
+                Application application = new Application(applicationId, studentId, internshipId, status, withdrawalRequested);
+                if (tokens.size() > 5 && status == ApplicationStatus.SUCCESSFUL_PENDING) {
+                    application.setOfferedAt(parseInstant(tokens.get(5)));
+                }
+                applications.add(application);
             }
         } catch (IOException e) {
             throw new RuntimeException("Failed to load applications from " + filePath, e);
@@ -150,7 +170,7 @@ public class InternshipLoader {
      */
     public void saveApplicationsToFile(String filePath, List<Application> applications) {
         List<String> lines = new ArrayList<>();
-        lines.add("applicationId,studentId,internshipId,status,withdrawalRequested");
+        lines.add("applicationId,studentId,internshipId,status,withdrawalRequested,offeredAt");
         for (Application application : applications) {
             List<String> values = new ArrayList<>();
             values.add(String.valueOf(application.getApplicationId()));
@@ -158,6 +178,7 @@ public class InternshipLoader {
             values.add(String.valueOf(application.getInternshipId()));
             values.add(application.getStatus().name());
             values.add(String.valueOf(application.isWithdrawalRequested()));
+            values.add(application.getOfferedAt() == null ? "" : application.getOfferedAt().toString());
             lines.add(CsvUtils.toLine(values));
         }
         writeLines(filePath, lines);
@@ -218,6 +239,23 @@ public class InternshipLoader {
         return LocalDate.parse(raw.trim(), DATE_FORMATTER);
     }
 
+    /**
+     * Parses a timestamp from a string.
+     *
+     * @param raw the raw string value (ISO-8601 instant)
+     * @return the parsed instant, or null if blank or malformed
+     */
+    private Instant parseInstant(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(raw.trim());
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
     /**
      * Formats a date to a string.
      *
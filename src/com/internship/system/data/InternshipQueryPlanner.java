@@ -0,0 +1,388 @@
+package com.internship.system.data;
+
+import com.internship.system.model.FilterCriteria;
+import com.internship.system.model.Internship;
+import com.internship.system.util.TopK;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Cost-based planner for internship searches.
+ * Estimates the number of rows each active FilterCriteria clause would produce
+ * from the bucket sizes kept by {@link InternshipIndex}, drives the query from the
+ * cheapest access path and applies the remaining clauses as residual predicates.
+ */
+class InternshipQueryPlanner {
+    /**
+     * Relative cost of one comparison when sorting rows fetched from an unordered
+     * access path, compared to evaluating predicates on one row of a title scan.
+     */
+    private static final double SORT_COST_PER_COMPARISON = 0.25;
+
+    /** Access paths available to the planner. */
+    enum AccessPath {
+        /** Walk every internship in title order; results need no sorting. */
+        TITLE_SCAN,
+        /** Read the status bucket. */
+        STATUS,
+        /** Read the company name bucket. */
+        COMPANY,
+        /** Read the preferred major bucket. */
+        MAJOR,
+        /** Read the closing-date buckets up to the requested date. */
+        CLOSING_DATE
+    }
+
+    /** Index providing the access paths and their counts. */
+    private final InternshipIndex index;
+    /** Internships by ID, used to resolve index entries. */
+    private final Map<Integer, Internship> internshipsById;
+
+    /**
+     * Constructs a new planner over the given index.
+     *
+     * @param index           the index providing access paths
+     * @param internshipsById internships keyed by ID
+     */
+    InternshipQueryPlanner(InternshipIndex index, Map<Integer, Internship> internshipsById) {
+        this.index = index;
+        this.internshipsById = internshipsById;
+    }
+
+    /**
+     * Plans a query for the given criteria that returns every matching row.
+     *
+     * @param criteria the filtering criteria
+     * @return the chosen plan
+     */
+    QueryPlan plan(FilterCriteria criteria) {
+        return plan(criteria, 0);
+    }
+
+    /**
+     * Plans a query for the given criteria.
+     * When a row limit is given, a title scan can stop early, so its cost is
+     * estimated as the number of rows it must visit to find that many matches.
+     *
+     * @param criteria the filtering criteria
+     * @param limit    maximum number of rows needed, or 0 for all rows
+     * @return the chosen plan
+     */
+    QueryPlan plan(FilterCriteria criteria, int limit) {
+        List<Clause> clauses = clausesFor(criteria);
+        int total = index.size();
+
+        Clause driver = null;
+        double bestCost = titleScanCost(clauses, total, limit);
+        for (Clause clause : clauses) {
+            if (clause.accessPath == AccessPath.TITLE_SCAN) {
+                continue;
+            }
+            double cost = costOf(clause.estimatedRows);
+            if (cost < bestCost) {
+                bestCost = cost;
+                driver = clause;
+            }
+        }
+
+        List<Clause> residuals = new ArrayList<>(clauses);
+        residuals.remove(driver);
+        return new QueryPlan(driver, residuals, clauses, total, bestCost);
+    }
+
+    /**
+     * Builds a predicate testing every active clause of the criteria, for callers
+     * that already have their own candidate set.
+     *
+     * @param criteria the filtering criteria
+     * @return predicate matching internships that satisfy the criteria
+     */
+    Predicate<Internship> matcher(FilterCriteria criteria) {
+        Predicate<Internship> combined = internship -> true;
+        for (Clause clause : clausesFor(criteria)) {
+            combined = combined.and(clause.predicate);
+        }
+        return combined;
+    }
+
+    /**
+     * Executes a plan, returning every matching internship in title order.
+     *
+     * @param plan the plan to execute
+     * @return list of matching internships, sorted by title
+     */
+    List<Internship> execute(QueryPlan plan) {
+        return execute(plan, internship -> true, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Executes a plan, returning at most {@code limit} matching internships in
+     * title order, starting after the given position.
+     *
+     * @param plan   the plan to execute
+     * @param filter additional predicate every row must satisfy
+     * @param after  title-order position to start after, or null to start at the beginning
+     * @param limit  maximum number of rows to return
+     * @return list of matching internships, sorted by title
+     */
+    List<Internship> execute(QueryPlan plan, Predicate<Internship> filter, InternshipIndex.TitleKey after,
+            int limit) {
+        Predicate<Internship> residual = plan.residualPredicate().and(filter);
+        List<Internship> results = new ArrayList<>();
+        if (plan.driver == null) {
+            NavigableSet<InternshipIndex.TitleKey> keys = after == null
+                    ? index.titleOrder()
+                    : index.titleOrder().tailSet(after, false);
+            for (InternshipIndex.TitleKey key : keys) {
+                if (results.size() >= limit) {
+                    break;
+                }
+                Internship internship = internshipsById.get(key.internshipId);
+                if (internship != null && residual.test(internship)) {
+                    results.add(internship);
+                }
+            }
+            return results;
+        }
+        Predicate<Internship> afterCursor = after == null
+                ? residual
+                : residual.and(internship -> InternshipIndex.TitleKey.of(internship).compareTo(after) > 0);
+        if (limit == Integer.MAX_VALUE) {
+            forEachCandidate(plan.driver, afterCursor, results::add);
+            results.sort(InternshipIndex.TITLE_ORDER);
+            return results;
+        }
+        TopK<Internship> firstRows = new TopK<>(limit, InternshipIndex.TITLE_ORDER);
+        forEachCandidate(plan.driver, afterCursor, firstRows::offer);
+        return firstRows.toSortedList();
+    }
+
+    /**
+     * Streams the candidates of a driving clause that satisfy the predicate.
+     *
+     * @param driver    the driving clause
+     * @param predicate predicate every row must satisfy
+     * @param consumer  receiver of matching internships
+     */
+    private void forEachCandidate(Clause driver, Predicate<Internship> predicate, Consumer<Internship> consumer) {
+        for (Integer internshipId : candidateIds(driver)) {
+            Internship internship = internshipsById.get(internshipId);
+            if (internship != null && predicate.test(internship)) {
+                consumer.accept(internship);
+            }
+        }
+    }
+
+    /**
+     * Gets the IDs produced by a driving clause's access path.
+     *
+     * @param driver the driving clause
+     * @return the candidate IDs
+     */
+    private Collection<Integer> candidateIds(Clause driver) {
+        return switch (driver.accessPath) {
+            case STATUS -> index.idsByStatus(driver.criteria.getStatus().orElseThrow());
+            case COMPANY -> index.idsByCompany(driver.criteria.getCompanyName().orElseThrow());
+            case MAJOR -> index.idsByMajor(driver.criteria.getPreferredMajor().orElseThrow());
+            case CLOSING_DATE -> {
+                List<Integer> ids = new ArrayList<>();
+                for (Set<Integer> bucket : index.closingOnOrBefore(
+                        driver.criteria.getClosingDateBefore().orElseThrow()).values()) {
+                    ids.addAll(bucket);
+                }
+                yield ids;
+            }
+            case TITLE_SCAN -> throw new IllegalStateException("Title scan has no candidate set");
+        };
+    }
+
+    /**
+     * Estimates the cost of reading and sorting the given number of rows from an
+     * unordered access path.
+     *
+     * @param rows the estimated number of rows
+     * @return the estimated cost, in title-scan row units
+     */
+    private static double costOf(int rows) {
+        if (rows <= 1) {
+            return rows;
+        }
+        double comparisons = rows * (Math.log(rows) / Math.log(2));
+        return rows + comparisons * SORT_COST_PER_COMPARISON;
+    }
+
+    /**
+     * Estimates the cost of a title scan. Without a limit every row is visited;
+     * with a limit the scan stops once enough rows match, which takes roughly
+     * {@code limit / selectivity} rows assuming independent clauses.
+     *
+     * @param clauses the active clauses
+     * @param total   the number of indexed internships
+     * @param limit   maximum number of rows needed, or 0 for all rows
+     * @return the estimated cost, in title-scan row units
+     */
+    private static double titleScanCost(List<Clause> clauses, int total, int limit) {
+        if (limit <= 0 || total == 0) {
+            return total;
+        }
+        double selectivity = 1.0;
+        for (Clause clause : clauses) {
+            selectivity *= (double) clause.estimatedRows / total;
+        }
+        if (selectivity <= 0) {
+            return total;
+        }
+        return Math.min(total, limit / selectivity);
+    }
+
+    /**
+     * Builds one clause per active filter in the criteria.
+     *
+     * @param criteria the filtering criteria
+     * @return the active clauses
+     */
+    private List<Clause> clausesFor(FilterCriteria criteria) {
+        List<Clause> clauses = new ArrayList<>();
+        criteria.getStatus().ifPresent(status -> clauses.add(new Clause(criteria, AccessPath.STATUS,
+                "status = " + status,
+                index.idsByStatus(status).size(),
+                internship -> internship.getStatus() == status)));
+        criteria.getCompanyName().ifPresent(company -> clauses.add(new Clause(criteria, AccessPath.COMPANY,
+                "company = '" + company + "'",
+                index.idsByCompany(company).size(),
+                internship -> internship.getCompanyName().equalsIgnoreCase(company))));
+        criteria.getPreferredMajor().ifPresent(major -> clauses.add(new Clause(criteria, AccessPath.MAJOR,
+                "major = '" + major + "'",
+                index.idsByMajor(major).size(),
+                internship -> internship.getPreferredMajor().equalsIgnoreCase(major))));
+        criteria.getClosingDateBefore().ifPresent(date -> clauses.add(new Clause(criteria, AccessPath.CLOSING_DATE,
+                "closingDate <= " + date,
+                index.countClosingOnOrBefore(date),
+                internship -> closesOnOrBefore(internship, date))));
+        criteria.getLevel().ifPresent(level -> clauses.add(new Clause(criteria, AccessPath.TITLE_SCAN,
+                "level = " + level,
+                index.size(),
+                internship -> internship.getLevel() == level)));
+        criteria.getVisibleOnly().ifPresent(visible -> clauses.add(new Clause(criteria, AccessPath.TITLE_SCAN,
+                "visible = " + visible,
+                index.size(),
+                internship -> internship.isVisible() == visible)));
+        return clauses;
+    }
+
+    private static boolean closesOnOrBefore(Internship internship, LocalDate date) {
+        return internship.getClosingDate() != null && !internship.getClosingDate().isAfter(date);
+    }
+
+    /**
+     * One active filter clause with its selectivity estimate.
+     */
+    static final class Clause {
+        private final FilterCriteria criteria;
+        private final AccessPath accessPath;
+        private final String description;
+        private final int estimatedRows;
+        private final Predicate<Internship> predicate;
+
+        private Clause(FilterCriteria criteria,
+                AccessPath accessPath,
+                String description,
+                int estimatedRows,
+                Predicate<Internship> predicate) {
+            this.criteria = criteria;
+            this.accessPath = accessPath;
+            this.description = description;
+            this.estimatedRows = estimatedRows;
+            this.predicate = predicate;
+        }
+    }
+
+    /**
+     * A chosen query plan: a driving access path plus residual predicates.
+     */
+    static final class QueryPlan {
+        /** Clause whose access path drives the query, or null for a title scan. */
+        private final Clause driver;
+        /** Clauses applied to every candidate row. */
+        private final List<Clause> residuals;
+        /** Every active clause, for explain output. */
+        private final List<Clause> clauses;
+        /** Number of indexed internships at planning time. */
+        private final int totalRows;
+        /** Estimated cost of the chosen plan. */
+        private final double cost;
+
+        private QueryPlan(Clause driver, List<Clause> residuals, List<Clause> clauses, int totalRows, double cost) {
+            this.driver = driver;
+            this.residuals = residuals;
+            this.clauses = clauses;
+            this.totalRows = totalRows;
+            this.cost = cost;
+        }
+
+        /**
+         * Gets the access path driving this plan.
+         *
+         * @return the access path
+         */
+        AccessPath getAccessPath() {
+            return driver == null ? AccessPath.TITLE_SCAN : driver.accessPath;
+        }
+
+        /**
+         * Combines the residual clauses into a single predicate.
+         *
+         * @return predicate matching rows that satisfy every residual clause
+         */
+        Predicate<Internship> residualPredicate() {
+            Predicate<Internship> combined = internship -> true;
+            for (Clause clause : residuals) {
+                combined = combined.and(clause.predicate);
+            }
+            return combined;
+        }
+
+        /**
+         * Describes the plan for debugging.
+         *
+         * @return a multi-line, human-readable description of the plan
+         */
+        String explain() {
+            StringBuilder builder = new StringBuilder();
+            builder.append("Access path: ").append(getAccessPath());
+            if (driver != null) {
+                builder.append(" (").append(driver.description).append(')');
+            }
+            builder.append(String.format(" | est. rows %d of %d | cost %.1f%n",
+                    driver == null ? totalRows : driver.estimatedRows, totalRows, cost));
+            builder.append("Residual predicates: ");
+            if (residuals.isEmpty()) {
+                builder.append("none");
+            } else {
+                for (int i = 0; i < residuals.size(); i++) {
+                    builder.append(i == 0 ? "" : ", ").append(residuals.get(i).description);
+                }
+            }
+            builder.append(System.lineSeparator());
+            builder.append("Clause estimates:");
+            if (clauses.isEmpty()) {
+                builder.append(" none (full title scan)");
+            }
+            for (Clause clause : clauses) {
+                builder.append(System.lineSeparator())
+                        .append("  ").append(clause.description)
+                        .append(" -> ").append(clause.estimatedRows).append(" rows")
+                        .append(clause.accessPath == AccessPath.TITLE_SCAN ? " (no index, residual only)" : "");
+            }
+            return builder.toString();
+        }
+    }
+}
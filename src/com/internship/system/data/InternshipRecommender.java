@@ -0,0 +1,97 @@
+package com.internship.system.data;
+
+import com.internship.system.model.Internship;
+import com.internship.system.model.Recommendation;
+import com.internship.system.model.enums.InternshipLevel;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Scores internships a student is eligible for. Every input is a field or a
+ * maintained counter (confirmed offers, waitlist size), so scoring one internship
+ * is constant time. Major is not scored: eligibility already requires the
+ * internship's preferred major to be the student's. Scores depend on the student
+ * only through the year class, so they can be kept per year class in a
+ * {@link RecommendationIndex}.
+ */
+final class InternshipRecommender {
+    /** Weight of how well the level suits the student's year. */
+    private static final double LEVEL_WEIGHT = 0.35;
+    /** Weight of the fraction of slots still open. */
+    private static final double OPEN_SLOTS_WEIGHT = 0.20;
+    /** Weight of closing-date urgency. */
+    private static final double URGENCY_WEIGHT = 0.20;
+    /** Weight of low competition (few PENDING applications per slot). */
+    private static final double COMPETITION_WEIGHT = 0.25;
+    /** Days to closing at which urgency has halved. */
+    private static final double URGENCY_HALF_LIFE_DAYS = 7.0;
+
+    /** Number of year classes scored differently: years 1-2, year 3, year 4 and above. */
+    static final int YEAR_CLASSES = 3;
+
+    private InternshipRecommender() {
+    }
+
+    /**
+     * Scores one internship for a student.
+     *
+     * @param internship        the internship
+     * @param yearOfStudy       the student's year of study
+     * @param today             the current date
+     * @param pendingApplicants number of PENDING applications for the internship
+     * @return the scored recommendation
+     */
+    static Recommendation score(Internship internship, int yearOfStudy, LocalDate today, int pendingApplicants) {
+        double levelFit = levelFit(internship.getLevel(), yearOfStudy);
+        int slots = Math.max(1, internship.getSlots());
+        double openSlotRatio = Math.max(0, slots - internship.getConfirmedOffers()) / (double) slots;
+        double urgency = 0.0;
+        if (internship.getClosingDate() != null) {
+            long daysLeft = Math.max(0, ChronoUnit.DAYS.between(today, internship.getClosingDate()));
+            urgency = 1.0 / (1.0 + daysLeft / URGENCY_HALF_LIFE_DAYS);
+        }
+        double applicantsPerSlot = pendingApplicants / (double) slots;
+        double score = LEVEL_WEIGHT * levelFit
+                + OPEN_SLOTS_WEIGHT * openSlotRatio
+                + URGENCY_WEIGHT * urgency
+                + COMPETITION_WEIGHT / (1.0 + applicantsPerSlot);
+        return new Recommendation(internship, score, levelFit, openSlotRatio, urgency, applicantsPerSlot);
+    }
+
+    /**
+     * Gets the year class a year of study is scored under, which is also the
+     * ordinal of the level that suits it best.
+     *
+     * @param yearOfStudy the year of study
+     * @return 0 for years 1-2, 1 for year 3, 2 for year 4 and above
+     */
+    static int yearClass(int yearOfStudy) {
+        return Math.min(YEAR_CLASSES - 1, Math.max(0, yearOfStudy - 2));
+    }
+
+    /**
+     * Gets a year of study that falls in a year class.
+     *
+     * @param yearClass the year class
+     * @return a representative year of study
+     */
+    static int representativeYear(int yearClass) {
+        return yearClass + 2;
+    }
+
+    /**
+     * Rates how well a level suits a year of study: BASIC for years 1-2,
+     * INTERMEDIATE for year 3 and ADVANCED from year 4, losing a quarter per level away.
+     *
+     * @param level       the internship level
+     * @param yearOfStudy the student's year of study
+     * @return fit from 0.5 to 1
+     */
+    private static double levelFit(InternshipLevel level, int yearOfStudy) {
+        if (level == null) {
+            return 0.5;
+        }
+        return 1.0 - 0.25 * Math.abs(level.ordinal() - yearClass(yearOfStudy));
+    }
+}
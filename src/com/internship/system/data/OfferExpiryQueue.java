@@ -0,0 +1,94 @@
+package com.internship.system.data;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Outstanding offers ordered by the deadline for answering them, so a sweep
+ * takes the offers that are due from the head without scanning the rest.
+ */
+class OfferExpiryQueue {
+    /** Orders entries by deadline, then application ID. */
+    private static final Comparator<Entry> BY_DEADLINE = Comparator
+            .comparing((Entry entry) -> entry.deadline)
+            .thenComparingInt(entry -> entry.applicationId);
+
+    /** Tracked offers in deadline order. */
+    private final NavigableSet<Entry> byDeadline = new TreeSet<>(BY_DEADLINE);
+    /** Entry of each tracked application, by application ID. */
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * Tracks an offer, replacing any earlier deadline for the same application.
+     *
+     * @param applicationId the application ID
+     * @param internshipId  the internship the offer is for
+     * @param deadline      the time the offer expires
+     */
+    void track(int applicationId, int internshipId, Instant deadline) {
+        remove(applicationId);
+        Entry entry = new Entry(applicationId, internshipId, deadline);
+        byDeadline.add(entry);
+        entries.put(applicationId, entry);
+    }
+
+    /**
+     * Stops tracking an application's offer.
+     *
+     * @param applicationId the application ID
+     */
+    void remove(int applicationId) {
+        Entry entry = entries.remove(applicationId);
+        if (entry != null) {
+            byDeadline.remove(entry);
+        }
+    }
+
+    /**
+     * Removes and returns every offer whose deadline is at or before the given time.
+     *
+     * @param now the current time
+     * @return the offers due, earliest deadline first
+     */
+    List<Entry> pollDue(Instant now) {
+        List<Entry> due = new ArrayList<>();
+        while (!byDeadline.isEmpty() && !byDeadline.first().deadline.isAfter(now)) {
+            Entry entry = byDeadline.pollFirst();
+            entries.remove(entry.applicationId);
+            due.add(entry);
+        }
+        return due;
+    }
+
+    /**
+     * Stops tracking everything.
+     */
+    void clear() {
+        byDeadline.clear();
+        entries.clear();
+    }
+
+    /**
+     * One outstanding offer.
+     */
+    static final class Entry {
+        /** Application the offer was made on. */
+        final int applicationId;
+        /** Internship the offer is for. */
+        final int internshipId;
+        /** Time the offer expires. */
+        final Instant deadline;
+
+        private Entry(int applicationId, int internshipId, Instant deadline) {
+            this.applicationId = applicationId;
+            this.internshipId = internshipId;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.internship.system.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque cursors used to page through internships.
+ * A cursor identifies the last internship of a page by its position in title
+ * order (title plus internship ID).
+ */
+final class PageCursor {
+    /** Separator between the ID and the title inside an encoded cursor. */
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PageCursor() {
+    }
+
+    /**
+     * Encodes a title-order position as an opaque cursor.
+     *
+     * @param key the position of the last item on a page
+     * @return the encoded cursor
+     */
+    static String encode(InternshipIndex.TitleKey key) {
+        String raw = key.internshipId + String.valueOf(SEPARATOR) + key.title;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor back into a title-order position.
+     *
+     * @param cursor the encoded cursor (null or blank means the first page)
+     * @return the decoded position, or null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    static InternshipIndex.TitleKey decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid page cursor", ex);
+        }
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+        try {
+            int internshipId = Integer.parseInt(raw.substring(0, separator));
+            return new InternshipIndex.TitleKey(raw.substring(separator + 1), internshipId);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid page cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.internship.system.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Distinct values of one internship field (company name or preferred major),
+ * each with a dictionary code, sorted by normalized value so that a typed prefix
+ * resolves to one contiguous range. Values are reference-counted by the
+ * internships using them and dropped, code retired, once none does. A value is
+ * shown as first seen.
+ */
+class PrefixDictionary {
+    /** Terms by normalized value. */
+    private final NavigableMap<String, Term> terms = new TreeMap<>();
+    /** Terms by dictionary code. */
+    private final Map<Integer, Term> byCode = new HashMap<>();
+    /** Term each internship is counted under. */
+    private final Map<Integer, Term> usedBy = new HashMap<>();
+    /** Code given to the next new value. */
+    private int nextCode;
+
+    /**
+     * Counts an internship's value, replacing the value it was counted under before.
+     *
+     * @param internshipId the internship ID
+     * @param value        the field value, or null/blank for none
+     */
+    void track(int internshipId, String value) {
+        Term current = usedBy.get(internshipId);
+        String normalized = value == null ? "" : InternshipIndex.normalize(value.trim());
+        if (current != null && current.normalized.equals(normalized)) {
+            return;
+        }
+        remove(internshipId);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        Term term = terms.computeIfAbsent(normalized, key -> {
+            Term created = new Term(nextCode++, key, value.trim());
+            byCode.put(created.code, created);
+            return created;
+        });
+        term.references++;
+        usedBy.put(internshipId, term);
+    }
+
+    /**
+     * Stops counting an internship's value.
+     *
+     * @param internshipId the internship ID
+     */
+    void remove(int internshipId) {
+        Term term = usedBy.remove(internshipId);
+        if (term != null && --term.references == 0) {
+            terms.remove(term.normalized);
+            byCode.remove(term.code);
+        }
+    }
+
+    /**
+     * Clears the dictionary. Codes are not reused.
+     */
+    void clear() {
+        terms.clear();
+        byCode.clear();
+        usedBy.clear();
+    }
+
+    /**
+     * Resolves a prefix to the codes of the values starting with it, case-insensitively.
+     *
+     * @param prefix the typed prefix
+     * @param limit  maximum number of codes to return
+     * @return codes in value order
+     */
+    List<Integer> codesWithPrefix(String prefix, int limit) {
+        String normalized = InternshipIndex.normalize(prefix.trim());
+        List<Integer> codes = new ArrayList<>();
+        for (Term term : terms.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+            if (codes.size() == limit) {
+                break;
+            }
+            codes.add(term.code);
+        }
+        return codes;
+    }
+
+    /**
+     * Gets the value a code stands for.
+     *
+     * @param code the dictionary code
+     * @return the value as first seen, or null if the code is not in use
+     */
+    String valueOf(int code) {
+        Term term = byCode.get(code);
+        return term == null ? null : term.display;
+    }
+
+    /**
+     * Gets the values starting with a prefix, case-insensitively.
+     *
+     * @param prefix the typed prefix
+     * @param limit  maximum number of values to return
+     * @return values in alphabetical order
+     */
+    List<String> complete(String prefix, int limit) {
+        List<String> values = new ArrayList<>();
+        for (Integer code : codesWithPrefix(prefix, limit)) {
+            values.add(valueOf(code));
+        }
+        return values;
+    }
+
+    /**
+     * One distinct value.
+     */
+    private static final class Term {
+        private final int code;
+        private final String normalized;
+        private final String display;
+        private int references;
+
+        private Term(int code, String normalized, String display) {
+            this.code = code;
+            this.normalized = normalized;
+            this.display = display;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.internship.system.data;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of query results, stored as internship ID lists.
+ * Every entry remembers the data version it was computed at; an entry whose
+ * version differs from the current one is treated as a miss and discarded.
+ * All methods are synchronized, since lookups run concurrently under the
+ * DataManager read lock.
+ */
+class QueryResultCache {
+    /** Cached results by normalized query key, in access order. */
+    private final Map<String, Entry> entries;
+    /** Number of lookups answered from the cache. */
+    private long hits;
+    /** Number of lookups that had to be computed. */
+    private long misses;
+
+    /**
+     * Constructs a new cache holding at most {@code capacity} results.
+     *
+     * @param capacity maximum number of cached results
+     */
+    QueryResultCache(int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Looks up a cached result.
+     *
+     * @param key     the normalized query key
+     * @param version the current data version
+     * @return the cached internship IDs, or null on a miss
+     */
+    synchronized List<Integer> get(String key, long version) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.version != version) {
+            if (entry != null) {
+                entries.remove(key);
+            }
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.internshipIds;
+    }
+
+    /**
+     * Stores a computed result.
+     *
+     * @param key           the normalized query key
+     * @param version       the data version the result was computed at
+     * @param internshipIds the result, as internship IDs in listing order
+     */
+    synchronized void put(String key, long version, List<Integer> internshipIds) {
+        entries.put(key, new Entry(version, List.copyOf(internshipIds)));
+    }
+
+    /**
+     * Removes every cached result. Hit and miss counters are kept.
+     */
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that had to be computed.
+     *
+     * @return the miss count
+     */
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of cached results.
+     *
+     * @return the entry count
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * A cached result and the data version it was computed at.
+     */
+    private static final class Entry {
+        private final long version;
+        private final List<Integer> internshipIds;
+
+        private Entry(long version, List<Integer> internshipIds) {
+            this.version = version;
+            this.internshipIds = internshipIds;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.internship.system.data;
+
+import com.internship.system.model.Internship;
+import com.internship.system.model.Recommendation;
+import com.internship.system.model.enums.InternshipLevel;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Eligible internships kept in recommendation order, one ranking per normalized
+ * major and year class. An internship is re-scored when it changes or its
+ * waitlist grows or shrinks, and every internship is re-scored when the date
+ * moves on, so a student's top N is read from the head of one ranking.
+ */
+class RecommendationIndex {
+    /** Best score first, then title order. */
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble((Entry entry) -> entry.recommendation.getScore()).reversed()
+            .thenComparing(entry -> entry.titleKey);
+
+    /** Rankings by major and year class. */
+    private final Map<String, NavigableSet<Entry>> rankings = new HashMap<>();
+    /** Entries each internship is currently ranked under. */
+    private final Map<Integer, List<Entry>> entries = new HashMap<>();
+    /** Every tracked internship, by ID. */
+    private final Map<Integer, Internship> tracked = new HashMap<>();
+    /** Source of the PENDING application count per internship. */
+    private final Waitlist waitlist;
+    /** Date the scores are current for. */
+    private LocalDate asOf;
+
+    /**
+     * Constructs a new RecommendationIndex current as of the given date.
+     *
+     * @param waitlist the waitlist giving PENDING applications per internship
+     * @param asOf     the reference date
+     */
+    RecommendationIndex(Waitlist waitlist, LocalDate asOf) {
+        this.waitlist = waitlist;
+        this.asOf = asOf;
+    }
+
+    /**
+     * Gets the recommendations for a student's major and year, best first.
+     *
+     * @param major       the student's major
+     * @param yearOfStudy the student's year of study
+     * @return the ranked recommendations; iterate and stop after the first N wanted
+     */
+    Iterable<Recommendation> ranked(String major, int yearOfStudy) {
+        NavigableSet<Entry> ranking = rankings.get(
+                rankingKey(InternshipIndex.normalize(major), InternshipRecommender.yearClass(yearOfStudy)));
+        if (ranking == null) {
+            return Collections.emptyList();
+        }
+        return () -> ranking.stream().map(entry -> entry.recommendation).iterator();
+    }
+
+    /**
+     * Starts tracking an internship.
+     *
+     * @param internship the internship to add
+     */
+    void add(Internship internship) {
+        tracked.put(internship.getInternshipId(), internship);
+        rank(internship);
+    }
+
+    /**
+     * Re-scores an internship after its fields have changed.
+     *
+     * @param internship the internship with updated data
+     */
+    void update(Internship internship) {
+        remove(internship.getInternshipId());
+        add(internship);
+    }
+
+    /**
+     * Re-scores an internship after its waitlist has changed.
+     *
+     * @param internshipId the internship ID
+     */
+    void refresh(int internshipId) {
+        Internship internship = tracked.get(internshipId);
+        if (internship != null) {
+            unrank(internshipId);
+            rank(internship);
+        }
+    }
+
+    /**
+     * Stops tracking an internship.
+     *
+     * @param internshipId the ID of the internship to remove
+     */
+    void remove(int internshipId) {
+        unrank(internshipId);
+        tracked.remove(internshipId);
+    }
+
+    /**
+     * Re-scores every internship for a new date, as urgency and eligibility depend on it.
+     *
+     * @param today the new reference date
+     */
+    void rollTo(LocalDate today) {
+        if (today.equals(asOf)) {
+            return;
+        }
+        asOf = today;
+        rankings.clear();
+        entries.clear();
+        for (Internship internship : tracked.values()) {
+            rank(internship);
+        }
+    }
+
+    /**
+     * Clears all rankings.
+     */
+    void clear() {
+        rankings.clear();
+        entries.clear();
+        tracked.clear();
+    }
+
+    /**
+     * Ranks an internship under every year class it is open to as of the reference date.
+     *
+     * @param internship the internship
+     */
+    private void rank(Internship internship) {
+        if (!EligibilityIndex.isOpenTo(internship, asOf)) {
+            return;
+        }
+        String major = InternshipIndex.normalize(internship.getPreferredMajor());
+        InternshipIndex.TitleKey titleKey = InternshipIndex.TitleKey.of(internship);
+        int pending = waitlist.size(internship.getInternshipId());
+        // Years 1-2 may only take BASIC internships.
+        int firstClass = internship.getLevel() == InternshipLevel.BASIC ? 0 : 1;
+        List<Entry> ranked = new ArrayList<>(InternshipRecommender.YEAR_CLASSES - firstClass);
+        for (int yearClass = firstClass; yearClass < InternshipRecommender.YEAR_CLASSES; yearClass++) {
+            Entry entry = new Entry(rankingKey(major, yearClass), titleKey, InternshipRecommender.score(
+                    internship, InternshipRecommender.representativeYear(yearClass), asOf, pending));
+            rankings.computeIfAbsent(entry.rankingKey, key -> new TreeSet<>(ORDER)).add(entry);
+            ranked.add(entry);
+        }
+        entries.put(internship.getInternshipId(), ranked);
+    }
+
+    /**
+     * Removes an internship from every ranking it is in.
+     *
+     * @param internshipId the internship ID
+     */
+    private void unrank(int internshipId) {
+        List<Entry> ranked = entries.remove(internshipId);
+        if (ranked == null) {
+            return;
+        }
+        for (Entry entry : ranked) {
+            NavigableSet<Entry> ranking = rankings.get(entry.rankingKey);
+            if (ranking != null) {
+                ranking.remove(entry);
+                if (ranking.isEmpty()) {
+                    rankings.remove(entry.rankingKey);
+                }
+            }
+        }
+    }
+
+    private static String rankingKey(String normalizedMajor, int yearClass) {
+        return yearClass + "|" + normalizedMajor;
+    }
+
+    /**
+     * One internship's place in one ranking. The title key is captured when ranked,
+     * so the entry can be found again after the title changes.
+     */
+    private static final class Entry {
+        private final String rankingKey;
+        private final InternshipIndex.TitleKey titleKey;
+        private final Recommendation recommendation;
+
+        private Entry(String rankingKey, InternshipIndex.TitleKey titleKey, Recommendation recommendation) {
+            this.rankingKey = rankingKey;
+            this.titleKey = titleKey;
+            this.recommendation = recommendation;
+        }
+    }
+}
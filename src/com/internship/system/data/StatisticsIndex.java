@@ -0,0 +1,338 @@
+package com.internship.system.data;
+
+import com.internship.system.model.Application;
+import com.internship.system.model.Internship;
+import com.internship.system.model.PlacementDashboard;
+import com.internship.system.model.enums.ApplicationStatus;
+import com.internship.system.model.enums.InternshipStatus;
+import com.internship.system.model.user.CompanyRepresentative;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Placement aggregates kept up to date on every change: applications per
+ * internship by status, fill per company, demand and supply per major, and
+ * pending approvals, and the offers or placements each student holds. What each internship, application and representative was
+ * last counted as is remembered, so a change moves only its own contribution,
+ * even when the object was modified in place before being reported.
+ */
+class StatisticsIndex {
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    /** Application counts by status ordinal, per internship ID. */
+    private final Map<Integer, int[]> applicationsByInternship = new HashMap<>();
+    /** Application counts by status ordinal. */
+    private final int[] applicationTotals = new int[STATUSES.length];
+    /** Internship and status each application is counted under. */
+    private final Map<Integer, CountedApplication> countedApplications = new HashMap<>();
+    /** Fields each internship is counted under. */
+    private final Map<Integer, CountedInternship> countedInternships = new HashMap<>();
+    /** Number of SUCCESSFUL_PENDING or SUCCESSFUL_ACCEPTED applications, per student ID (absent when 0). */
+    private final Map<String, Integer> heldOffersByStudent = new HashMap<>();
+    /** Fill totals by company name. */
+    private final Map<String, CompanyTotals> companies = new TreeMap<>();
+    /** Demand and supply totals by normalized major. */
+    private final Map<String, MajorTotals> majors = new TreeMap<>();
+    /** Approval each representative is counted under. */
+    private final Map<String, Boolean> representativeApprovals = new HashMap<>();
+    /** Number of PENDING internships. */
+    private int pendingInternships;
+    /** Number of unapproved representatives. */
+    private int pendingRepresentatives;
+
+    /**
+     * Counts an internship, replacing what it was counted as before.
+     *
+     * @param internship the internship
+     */
+    void trackInternship(Internship internship) {
+        removeInternship(internship.getInternshipId());
+        CountedInternship counted = new CountedInternship(internship);
+        countedInternships.put(counted.internshipId, counted);
+        apply(counted, 1);
+    }
+
+    /**
+     * Stops counting an internship. Its applications stay counted per internship
+     * until they are removed themselves.
+     *
+     * @param internshipId the internship ID
+     */
+    void removeInternship(int internshipId) {
+        CountedInternship counted = countedInternships.remove(internshipId);
+        if (counted != null) {
+            apply(counted, -1);
+        }
+    }
+
+    /**
+     * Counts an application, replacing what it was counted as before.
+     *
+     * @param application the application
+     */
+    void trackApplication(Application application) {
+        CountedApplication current = countedApplications.get(application.getApplicationId());
+        if (current != null && current.internshipId == application.getInternshipId()
+                && current.status == application.getStatus()
+                && Objects.equals(current.studentId, application.getStudentId())) {
+            return;
+        }
+        removeApplication(application.getApplicationId());
+        if (application.getStatus() == null) {
+            return;
+        }
+        CountedApplication counted = new CountedApplication(application.getStudentId(),
+                application.getInternshipId(), application.getStatus());
+        countedApplications.put(application.getApplicationId(), counted);
+        apply(counted, 1);
+    }
+
+    /**
+     * Stops counting an application.
+     *
+     * @param applicationId the application ID
+     */
+    void removeApplication(int applicationId) {
+        CountedApplication counted = countedApplications.remove(applicationId);
+        if (counted != null) {
+            apply(counted, -1);
+        }
+    }
+
+    /**
+     * Counts a representative's approval, replacing what it was counted as before.
+     *
+     * @param representative the representative
+     */
+    void trackRepresentative(CompanyRepresentative representative) {
+        Boolean previous = representativeApprovals.put(representative.getUserId(), representative.isApproved());
+        if (previous != null && !previous) {
+            pendingRepresentatives--;
+        }
+        if (!representative.isApproved()) {
+            pendingRepresentatives++;
+        }
+    }
+
+    /**
+     * Gets the number of applications for an internship in each status.
+     *
+     * @param internshipId the internship ID
+     * @return map with an entry for every status
+     */
+    Map<ApplicationStatus, Integer> applicationCounts(int internshipId) {
+        return toMap(applicationsByInternship.get(internshipId));
+    }
+
+    /**
+     * Gets the number of applications for an internship in one status.
+     *
+     * @param internshipId the internship ID
+     * @param status       the status
+     * @return number of applications
+     */
+    int applicationCount(int internshipId, ApplicationStatus status) {
+        int[] counts = applicationsByInternship.get(internshipId);
+        return counts == null ? 0 : counts[status.ordinal()];
+    }
+
+    /**
+     * Checks whether a student holds an outstanding offer or an accepted placement.
+     *
+     * @param studentId the student ID
+     * @return true if any of the student's applications is SUCCESSFUL_PENDING or SUCCESSFUL_ACCEPTED
+     */
+    boolean holdsOffer(String studentId) {
+        return heldOffersByStudent.containsKey(studentId);
+    }
+
+    /**
+     * Builds a dashboard from the current totals. Takes time in the number of
+     * companies and majors, not internships or applications.
+     *
+     * @param outstandingWithdrawals number of withdrawal requests awaiting a decision
+     * @return the dashboard
+     */
+    PlacementDashboard snapshot(int outstandingWithdrawals) {
+        List<PlacementDashboard.CompanyFill> companyFills = new ArrayList<>(companies.size());
+        companies.forEach((name, totals) -> companyFills.add(
+                new PlacementDashboard.CompanyFill(name, totals.internships, totals.slots, totals.confirmedOffers)));
+        List<PlacementDashboard.MajorBalance> majorBalances = new ArrayList<>(majors.size());
+        for (MajorTotals totals : majors.values()) {
+            majorBalances.add(new PlacementDashboard.MajorBalance(
+                    totals.displayName, totals.pendingApplications, totals.openSlots));
+        }
+        return new PlacementDashboard(toMap(applicationTotals), pendingInternships, pendingRepresentatives,
+                outstandingWithdrawals, companyFills, majorBalances);
+    }
+
+    /**
+     * Clears all totals.
+     */
+    void clear() {
+        applicationsByInternship.clear();
+        Arrays.fill(applicationTotals, 0);
+        countedApplications.clear();
+        countedInternships.clear();
+        heldOffersByStudent.clear();
+        companies.clear();
+        majors.clear();
+        representativeApprovals.clear();
+        pendingInternships = 0;
+        pendingRepresentatives = 0;
+    }
+
+    /**
+     * Adds or subtracts an internship's contribution.
+     *
+     * @param counted the internship as counted
+     * @param sign    1 to add, -1 to subtract
+     */
+    private void apply(CountedInternship counted, int sign) {
+        if (counted.status == InternshipStatus.PENDING) {
+            pendingInternships += sign;
+        }
+        if (counted.companyName != null && counted.wasApproved()) {
+            CompanyTotals totals = companies.computeIfAbsent(counted.companyName, key -> new CompanyTotals());
+            totals.internships += sign;
+            totals.slots += sign * counted.slots;
+            totals.confirmedOffers += sign * counted.confirmedOffers;
+            if (totals.internships == 0) {
+                companies.remove(counted.companyName);
+            }
+        }
+        if (counted.majorKey != null) {
+            MajorTotals totals = majors.computeIfAbsent(counted.majorKey, key -> new MajorTotals(counted.major));
+            totals.internships += sign;
+            totals.pendingApplications += sign * count(counted.internshipId, ApplicationStatus.PENDING);
+            if (counted.status == InternshipStatus.APPROVED) {
+                totals.openSlots += sign * Math.max(0, counted.slots - counted.confirmedOffers);
+            }
+            if (totals.internships == 0) {
+                majors.remove(counted.majorKey);
+            }
+        }
+    }
+
+    /**
+     * Adds or subtracts an application's contribution, including to the demand
+     * of its internship's major.
+     *
+     * @param counted the application as counted
+     * @param sign    1 to add, -1 to subtract
+     */
+    private void apply(CountedApplication counted, int sign) {
+        int[] counts = applicationsByInternship.computeIfAbsent(counted.internshipId, key -> new int[STATUSES.length]);
+        counts[counted.status.ordinal()] += sign;
+        applicationTotals[counted.status.ordinal()] += sign;
+        if (isEmpty(counts)) {
+            applicationsByInternship.remove(counted.internshipId);
+        }
+        if (counted.status == ApplicationStatus.SUCCESSFUL_PENDING
+                || counted.status == ApplicationStatus.SUCCESSFUL_ACCEPTED) {
+            heldOffersByStudent.merge(counted.studentId, sign, (held, change) -> held + change == 0 ? null : held + change);
+        }
+        if (counted.status == ApplicationStatus.PENDING) {
+            CountedInternship internship = countedInternships.get(counted.internshipId);
+            if (internship != null && internship.majorKey != null) {
+                majors.get(internship.majorKey).pendingApplications += sign;
+            }
+        }
+    }
+
+    private int count(int internshipId, ApplicationStatus status) {
+        int[] counts = applicationsByInternship.get(internshipId);
+        return counts == null ? 0 : counts[status.ordinal()];
+    }
+
+    private static boolean isEmpty(int[] counts) {
+        for (int count : counts) {
+            if (count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<ApplicationStatus, Integer> toMap(int[] counts) {
+        Map<ApplicationStatus, Integer> map = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : STATUSES) {
+            map.put(status, counts == null ? 0 : counts[status.ordinal()]);
+        }
+        return map;
+    }
+
+    /**
+     * The fields of an internship that the totals depend on, as last counted.
+     */
+    private static final class CountedInternship {
+        private final int internshipId;
+        private final InternshipStatus status;
+        private final String companyName;
+        private final String major;
+        private final String majorKey;
+        private final int slots;
+        private final int confirmedOffers;
+
+        private CountedInternship(Internship internship) {
+            this.internshipId = internship.getInternshipId();
+            this.status = internship.getStatus();
+            this.companyName = internship.getCompanyName();
+            this.major = internship.getPreferredMajor();
+            this.majorKey = major == null || major.isBlank() ? null : InternshipIndex.normalize(major.trim());
+            this.slots = internship.getSlots();
+            this.confirmedOffers = internship.getConfirmedOffers();
+        }
+
+        private boolean wasApproved() {
+            return status == InternshipStatus.APPROVED || status == InternshipStatus.FILLED
+                    || status == InternshipStatus.CLOSED;
+        }
+    }
+
+    /**
+     * The student, internship and status an application was last counted under.
+     */
+    private static final class CountedApplication {
+        private final String studentId;
+        private final int internshipId;
+        private final ApplicationStatus status;
+
+        private CountedApplication(String studentId, int internshipId, ApplicationStatus status) {
+            this.studentId = studentId;
+            this.internshipId = internshipId;
+            this.status = status;
+        }
+    }
+
+    /**
+     * Running fill totals for one company.
+     */
+    private static final class CompanyTotals {
+        private int internships;
+        private int slots;
+        private int confirmedOffers;
+    }
+
+    /**
+     * Running demand and supply totals for one major.
+     */
+    private static final class MajorTotals {
+        /** The major as first seen. */
+        private final String displayName;
+        private int internships;
+        private int pendingApplications;
+        private int openSlots;
+
+        private MajorTotals(String displayName) {
+            this.displayName = displayName.trim();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.internship.system.data;
+
+import com.internship.system.model.Internship;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Inverted index over internship titles and descriptions for keyword search.
+ * Text is split on anything that is not a letter or digit and case-folded.
+ * Terms are kept sorted, so a query term also matches every indexed term it is a
+ * prefix of. Matches are ranked with BM25, title terms counting more than
+ * description terms.
+ */
+class TextIndex {
+    /** BM25 term-frequency saturation. */
+    private static final double K1 = 1.2;
+    /** BM25 document-length normalization. */
+    private static final double B = 0.75;
+    /** Times a title term counts towards term frequency. */
+    private static final int TITLE_WEIGHT = 3;
+    /** Share of the score a prefix match earns relative to an exact match. */
+    private static final double PREFIX_MATCH_WEIGHT = 0.7;
+    /** Shortest query term also matched as a prefix. */
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    /** Weighted term frequency per internship, by term. */
+    private final NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    /** Indexed term frequencies per internship, for removal. */
+    private final Map<Integer, Map<String, Integer>> documents = new HashMap<>();
+    /** Text each internship was indexed from, to skip re-indexing unchanged text. */
+    private final Map<Integer, String> indexedText = new HashMap<>();
+    /** Weighted length of each indexed internship. */
+    private final Map<Integer, Integer> lengths = new HashMap<>();
+    /** Sum of all weighted lengths. */
+    private long totalLength;
+
+    /**
+     * Indexes an internship, replacing any earlier entry for it. Does nothing if
+     * its title and description are unchanged since it was last indexed.
+     *
+     * @param internship the internship
+     */
+    void index(Internship internship) {
+        int internshipId = internship.getInternshipId();
+        String text = internship.getTitle() + "\n" + internship.getDescription();
+        if (text.equals(indexedText.get(internshipId))) {
+            return;
+        }
+        remove(internshipId);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(internship.getTitle())) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(internship.getDescription())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(internshipId, entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(internshipId, frequencies);
+        indexedText.put(internshipId, text);
+        lengths.put(internshipId, length);
+        totalLength += length;
+    }
+
+    /**
+     * Removes an internship from the index.
+     *
+     * @param internshipId the internship ID
+     */
+    void remove(int internshipId) {
+        Map<String, Integer> frequencies = documents.remove(internshipId);
+        indexedText.remove(internshipId);
+        Integer length = lengths.remove(internshipId);
+        if (length != null) {
+            totalLength -= length;
+        }
+        if (frequencies == null) {
+            return;
+        }
+        for (String term : frequencies.keySet()) {
+            Map<Integer, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(internshipId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the index.
+     */
+    void clear() {
+        postings.clear();
+        documents.clear();
+        indexedText.clear();
+        lengths.clear();
+        totalLength = 0;
+    }
+
+    /**
+     * Scores every internship matching at least one query term. A query term
+     * matches an indexed term exactly or, from two characters up, as a prefix;
+     * each query term contributes its best-scoring match.
+     *
+     * @param query the keywords
+     * @return BM25 score by internship ID; empty if nothing matches
+     */
+    Map<Integer, Double> search(String query) {
+        Map<Integer, Double> scores = new HashMap<>();
+        int documentCount = documents.size();
+        if (documentCount == 0) {
+            return scores;
+        }
+        double averageLength = Math.max(1.0, totalLength / (double) documentCount);
+        for (String queryTerm : new LinkedHashSet<>(tokenize(query))) {
+            Map<Integer, Double> best = new HashMap<>();
+            NavigableMap<String, Map<Integer, Integer>> matches = queryTerm.length() >= MIN_PREFIX_LENGTH
+                    ? postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false)
+                    : postings.subMap(queryTerm, true, queryTerm, true);
+            for (Map.Entry<String, Map<Integer, Integer>> match : matches.entrySet()) {
+                Map<Integer, Integer> posting = match.getValue();
+                double idf = Math.log(1.0 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                double weight = match.getKey().equals(queryTerm) ? 1.0 : PREFIX_MATCH_WEIGHT;
+                for (Map.Entry<Integer, Integer> entry : posting.entrySet()) {
+                    int frequency = entry.getValue();
+                    double norm = K1 * (1 - B + B * lengths.get(entry.getKey()) / averageLength);
+                    double score = weight * idf * frequency * (K1 + 1) / (frequency + norm);
+                    best.merge(entry.getKey(), score, Math::max);
+                }
+            }
+            best.forEach((internshipId, score) -> scores.merge(internshipId, score, Double::sum));
+        }
+        return scores;
+    }
+
+    /**
+     * Splits text into case-folded terms of letters and digits.
+     *
+     * @param text the text, may be null
+     * @return the terms in order, with repeats
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
@@ -37,20 +37,10 @@ public class UserLoader {
         try {
             List<String> lines = Files.readAllLines(path);
             for (int i = 1; i < lines.size(); i++) {
-                List<String> tokens = CsvUtils.parseLine(lines.get(i));
-                if (tokens.size() < 4) {
-                    continue;
+                Student student = parseStudent(CsvUtils.parseLine(lines.get(i)));
+                if (student != null) {
+                    students.add(student);
                 }
-    
-                String studentId = tokens.get(0);
-                String name = tokens.get(1);
-                String major = tokens.get(2);
-                int year = parseInt(tokens.get(3), 1);  
-                String password = (tokens.size() > 5 && !tokens.get(5).isBlank()) 
-                    ? tokens.get(5) 
-                    : PasswordValidator.getDefaultPassword();
-    
-                students.add(new Student(studentId, name, password, year, major));
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -76,23 +66,10 @@ public class UserLoader {
         try {
             List<String> lines = Files.readAllLines(path);
             for (int i = 1; i < lines.size(); i++) {
-                List<String> tokens = CsvUtils.parseLine(lines.get(i));
-                if (tokens.size() < 6) {
-                    continue;
+                CompanyRepresentative rep = parseCompanyRep(CsvUtils.parseLine(lines.get(i)));
+                if (rep != null) {
+                    reps.add(rep);
                 }
-
-                String repId = tokens.get(0);
-                String name = tokens.get(1);
-                String companyName = tokens.get(2);
-                String department = tokens.get(3);
-                String position = tokens.get(4);
-                String status = tokens.size() > 6 ? tokens.get(6).toLowerCase() : "pending";
-                boolean approved = status.contains("approved");
-                String password = (tokens.size() > 7 && !tokens.get(7).isBlank()) 
-                    ? tokens.get(7) 
-                    : PasswordValidator.getDefaultPassword();
-
-                reps.add(new CompanyRepresentative(repId, name, password, companyName, department, position, approved));
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -101,6 +78,52 @@ public class UserLoader {
     }
 
 
+    /**
+     * Builds a student from the tokens of one student_list.csv row
+     * (StudentID, Name, Major, YearOfStudy, Email, Password).
+     *
+     * @param tokens the parsed row
+     * @return the student, or null if the row has too few columns
+     */
+    Student parseStudent(List<String> tokens) {
+        if (tokens.size() < 4) {
+            return null;
+        }
+        String studentId = tokens.get(0);
+        String name = tokens.get(1);
+        String major = tokens.get(2);
+        int year = parseInt(tokens.get(3), 1);
+        String password = (tokens.size() > 5 && !tokens.get(5).isBlank())
+            ? tokens.get(5)
+            : PasswordValidator.getDefaultPassword();
+        return new Student(studentId, name, password, year, major);
+    }
+
+    /**
+     * Builds a company representative from the tokens of one
+     * company_representative_list.csv row
+     * (CompanyRepID, Name, CompanyName, Department, Position, Email, Status, Password).
+     *
+     * @param tokens the parsed row
+     * @return the representative, or null if the row has too few columns
+     */
+    CompanyRepresentative parseCompanyRep(List<String> tokens) {
+        if (tokens.size() < 6) {
+            return null;
+        }
+        String repId = tokens.get(0);
+        String name = tokens.get(1);
+        String companyName = tokens.get(2);
+        String department = tokens.get(3);
+        String position = tokens.get(4);
+        String status = tokens.size() > 6 ? tokens.get(6).toLowerCase() : "pending";
+        boolean approved = status.contains("approved");
+        String password = (tokens.size() > 7 && !tokens.get(7).isBlank())
+            ? tokens.get(7)
+            : PasswordValidator.getDefaultPassword();
+        return new CompanyRepresentative(repId, name, password, companyName, department, position, approved);
+    }
+
     /**
      * Loads career center staff from a CSV file.
      *
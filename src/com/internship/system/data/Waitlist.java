@@ -0,0 +1,111 @@
+package com.internship.system.data;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * PENDING applications queued per internship in application ID order, which is
+ * submission order, so the next applicant for a freed slot is taken from the head.
+ */
+class Waitlist {
+    /** Queued application IDs by internship ID. */
+    private final Map<Integer, NavigableSet<Integer>> byInternship = new HashMap<>();
+    /** Internship each queued application is waiting on. */
+    private final Map<Integer, Integer> queuedFor = new HashMap<>();
+
+    /**
+     * Queues an application, moving it if it was queued for another internship.
+     *
+     * @param applicationId the application ID
+     * @param internshipId  the internship applied for
+     * @return true if the application was not already queued for that internship
+     */
+    boolean track(int applicationId, int internshipId) {
+        Integer current = queuedFor.get(applicationId);
+        if (current != null && current == internshipId) {
+            return false;
+        }
+        remove(applicationId);
+        byInternship.computeIfAbsent(internshipId, key -> new TreeSet<>()).add(applicationId);
+        queuedFor.put(applicationId, internshipId);
+        return true;
+    }
+
+    /**
+     * Drops an application from its queue.
+     *
+     * @param applicationId the application ID
+     * @return true if the application was queued
+     */
+    boolean remove(int applicationId) {
+        Integer internshipId = queuedFor.remove(applicationId);
+        if (internshipId == null) {
+            return false;
+        }
+        NavigableSet<Integer> queue = byInternship.get(internshipId);
+        if (queue != null) {
+            queue.remove(applicationId);
+            if (queue.isEmpty()) {
+                byInternship.remove(internshipId);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes and returns the earliest application queued for an internship.
+     *
+     * @param internshipId the internship ID
+     * @return the application ID, or null if none is queued
+     */
+    Integer pollFirst(int internshipId) {
+        NavigableSet<Integer> queue = byInternship.get(internshipId);
+        if (queue == null) {
+            return null;
+        }
+        Integer applicationId = queue.pollFirst();
+        queuedFor.remove(applicationId);
+        if (queue.isEmpty()) {
+            byInternship.remove(internshipId);
+        }
+        return applicationId;
+    }
+
+    /**
+     * Gets the number of applications queued for an internship.
+     *
+     * @param internshipId the internship ID
+     * @return the queue length
+     */
+    int size(int internshipId) {
+        NavigableSet<Integer> queue = byInternship.get(internshipId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Gets an application's place in its queue. Counts the applications ahead
+     * of it in the {@code TreeSet}, so it takes time proportional to the
+     * position, not O(log n); it serves single lookups (a student viewing one
+     * application), not scans over every waitlisted application.
+     *
+     * @param applicationId the application ID
+     * @return 1 for the head of the queue, or 0 if the application is not queued
+     */
+    int positionOf(int applicationId) {
+        Integer internshipId = queuedFor.get(applicationId);
+        if (internshipId == null) {
+            return 0;
+        }
+        return byInternship.get(internshipId).headSet(applicationId, true).size();
+    }
+
+    /**
+     * Stops tracking everything.
+     */
+    void clear() {
+        byInternship.clear();
+        queuedFor.clear();
+    }
+}
@@ -0,0 +1,133 @@
+package com.internship.system.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dry-run result of a placement allocation round: the offers the matching would
+ * make, per internship, and how the round went. Nothing is changed until the
+ * report is committed.
+ */
+public class AllocationReport {
+    /** Application IDs to offer, by internship ID, each list in application ID order. */
+    private final Map<Integer, List<Integer>> offersByInternship;
+    /** Number of PENDING applications taken into the match. */
+    private final int applicationsConsidered;
+    /** Number of students with at least one application in the match. */
+    private final int studentsConsidered;
+    /** Number of internships with a slot open to the match. */
+    private final int internshipsConsidered;
+    /** Number of slots open to the match across all internships. */
+    private final int openSlots;
+    /** Number of proposal rounds run. */
+    private final int rounds;
+    /** Time taken to build and run the match, in nanoseconds. */
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new AllocationReport.
+     *
+     * @param offersByInternship     application IDs to offer, by internship ID
+     * @param applicationsConsidered number of PENDING applications in the match
+     * @param studentsConsidered     number of students in the match
+     * @param internshipsConsidered  number of internships with an open slot
+     * @param openSlots              number of slots open to the match
+     * @param rounds                 number of proposal rounds run
+     * @param elapsedNanos           elapsed time in nanoseconds
+     */
+    public AllocationReport(Map<Integer, List<Integer>> offersByInternship, int applicationsConsidered,
+            int studentsConsidered, int internshipsConsidered, int openSlots, int rounds, long elapsedNanos) {
+        this.offersByInternship = Collections.unmodifiableMap(offersByInternship);
+        this.applicationsConsidered = applicationsConsidered;
+        this.studentsConsidered = studentsConsidered;
+        this.internshipsConsidered = internshipsConsidered;
+        this.openSlots = openSlots;
+        this.rounds = rounds;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the offers the match would make.
+     *
+     * @return unmodifiable map of internship ID to the application IDs to offer
+     */
+    public Map<Integer, List<Integer>> getOffersByInternship() {
+        return offersByInternship;
+    }
+
+    /**
+     * Gets the total number of offers the match would make, one per matched student.
+     *
+     * @return number of offers
+     */
+    public int getOfferCount() {
+        return offersByInternship.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Gets the number of PENDING applications taken into the match.
+     *
+     * @return applications considered
+     */
+    public int getApplicationsConsidered() {
+        return applicationsConsidered;
+    }
+
+    /**
+     * Gets the number of students taken into the match.
+     *
+     * @return students considered
+     */
+    public int getStudentsConsidered() {
+        return studentsConsidered;
+    }
+
+    /**
+     * Gets the number of internships with a slot open to the match.
+     *
+     * @return internships considered
+     */
+    public int getInternshipsConsidered() {
+        return internshipsConsidered;
+    }
+
+    /**
+     * Gets the number of slots open to the match.
+     *
+     * @return open slots
+     */
+    public int getOpenSlots() {
+        return openSlots;
+    }
+
+    /**
+     * Gets the number of proposal rounds run.
+     *
+     * @return rounds
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Gets the time taken to build and run the match.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Summarizes the round on one line.
+     *
+     * @return counts, rounds and elapsed time
+     */
+    public String summary() {
+        return String.format("%d offer(s) for %d student(s) across %d internship(s) with %d open slot(s); "
+                + "%d application(s) considered, %d round(s), %.1f ms",
+                getOfferCount(), studentsConsidered, internshipsConsidered, openSlots,
+                applicationsConsidered, rounds, elapsedNanos / 1e6);
+    }
+}
@@ -0,0 +1,82 @@
+package com.internship.system.model;
+
+/**
+ * Outcome of committing a placement allocation round: how many planned offers
+ * were made, and how many planned applications were skipped because things
+ * changed since the round was planned.
+ */
+public class AllocationResult {
+    /** Number of offers made. */
+    private final int offersMade;
+    /** Number of planned applications no longer PENDING. */
+    private final int skippedDecided;
+    /** Number of planned applications whose student now holds an offer or placement. */
+    private final int skippedPlaced;
+    /** Number of planned applications whose internship had no slot left for another offer. */
+    private final int skippedFull;
+
+    /**
+     * Constructs a new AllocationResult.
+     *
+     * @param offersMade     number of offers made
+     * @param skippedDecided number of planned applications no longer PENDING
+     * @param skippedPlaced  number of planned applications whose student now holds an offer or placement
+     * @param skippedFull    number of planned applications whose internship had no slot left
+     */
+    public AllocationResult(int offersMade, int skippedDecided, int skippedPlaced, int skippedFull) {
+        this.offersMade = offersMade;
+        this.skippedDecided = skippedDecided;
+        this.skippedPlaced = skippedPlaced;
+        this.skippedFull = skippedFull;
+    }
+
+    /**
+     * Gets the number of offers made.
+     *
+     * @return offers made
+     */
+    public int getOffersMade() {
+        return offersMade;
+    }
+
+    /**
+     * Gets the number of planned applications skipped because they were no
+     * longer PENDING.
+     *
+     * @return applications skipped as already decided
+     */
+    public int getSkippedDecided() {
+        return skippedDecided;
+    }
+
+    /**
+     * Gets the number of planned applications skipped because their student
+     * now holds an outstanding offer or an accepted placement.
+     *
+     * @return applications skipped as already placed
+     */
+    public int getSkippedPlaced() {
+        return skippedPlaced;
+    }
+
+    /**
+     * Gets the number of planned applications skipped because their internship
+     * had no slot left once confirmed and outstanding offers were counted.
+     *
+     * @return applications skipped for lack of a slot
+     */
+    public int getSkippedFull() {
+        return skippedFull;
+    }
+
+    /**
+     * Summarizes the commit on one line.
+     *
+     * @return offers made and applications skipped, by reason
+     */
+    public String summary() {
+        return String.format("%d offer(s) made; skipped %d application(s) no longer pending, "
+                + "%d whose student now holds an offer or placement, %d with no slot left",
+                offersMade, skippedDecided, skippedPlaced, skippedFull);
+    }
+}
@@ -2,8 +2,13 @@ package com.internship.system.model;
 
 import com.internship.system.model.enums.ApplicationStatus;
 
+import java.time.Instant;
+
 /**
  * Represents a student's application for an internship position.
+ * Fields changed after the application is published (status, withdrawal
+ * request, offer time) are volatile, so a change made under an internship's
+ * lock is visible to sessions and saves that read without that lock.
  */
 public class Application {
     /** Unique identifier for this application. */
@@ -13,9 +18,11 @@ public class Application {
     /** ID of the internship this application is for. */
     private int internshipId;
     /** Current status of the application. */
-    private ApplicationStatus status;
+    private volatile ApplicationStatus status;
     /** Whether a withdrawal has been requested for this application. */
-    private boolean withdrawalRequested;
+    private volatile boolean withdrawalRequested;
+    /** Time the current offer was made, or null if the status is not SUCCESSFUL_PENDING. */
+    private volatile Instant offeredAt;
 
     /**
      * Constructs a new Application with the specified parameters.
@@ -115,13 +122,39 @@ public class Application {
 
     /**
      * Sets the application status.
+     * Moving into SUCCESSFUL_PENDING records the offer time; moving out of it clears it.
      *
      * @param status the new status
      */
     public void setStatus(ApplicationStatus status) {
+        if (status == ApplicationStatus.SUCCESSFUL_PENDING) {
+            if (this.status != ApplicationStatus.SUCCESSFUL_PENDING || offeredAt == null) {
+                offeredAt = Instant.now();
+            }
+        } else {
+            offeredAt = null;
+        }
         this.status = status;
     }
 
+    /**
+     * Gets the time the current offer was made.
+     *
+     * @return the offer time, or null if no offer is outstanding
+     */
+    public Instant getOfferedAt() {
+        return offeredAt;
+    }
+
+    /**
+     * Sets the time the current offer was made, e.g. when loading from file.
+     *
+     * @param offeredAt the offer time, or null
+     */
+    public void setOfferedAt(Instant offeredAt) {
+        this.offeredAt = offeredAt;
+    }
+
     /**
      * Checks if a withdrawal has been requested.
      *
@@ -0,0 +1,65 @@
+package com.internship.system.model;
+
+/**
+ * Outcome of deciding many pending applications at once: how many were
+ * offered, how many were rejected, and how many chosen for an offer were left
+ * PENDING because the internship ran out of open slots.
+ */
+public class DecisionResult {
+    /** Number of applications marked SUCCESSFUL_PENDING. */
+    private final int offersMade;
+    /** Number of applications marked UNSUCCESSFUL. */
+    private final int rejected;
+    /** Number of applications chosen for an offer but left PENDING for lack of a slot. */
+    private final int leftPending;
+
+    /**
+     * Constructs a new DecisionResult.
+     *
+     * @param offersMade  number of applications marked SUCCESSFUL_PENDING
+     * @param rejected    number of applications marked UNSUCCESSFUL
+     * @param leftPending number of applications chosen for an offer but left PENDING
+     */
+    public DecisionResult(int offersMade, int rejected, int leftPending) {
+        this.offersMade = offersMade;
+        this.rejected = rejected;
+        this.leftPending = leftPending;
+    }
+
+    /**
+     * Gets the number of offers made.
+     *
+     * @return applications marked SUCCESSFUL_PENDING
+     */
+    public int getOffersMade() {
+        return offersMade;
+    }
+
+    /**
+     * Gets the number of applications rejected.
+     *
+     * @return applications marked UNSUCCESSFUL
+     */
+    public int getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Gets the number of applications chosen for an offer but left PENDING
+     * because the internship had no open slot left for them.
+     *
+     * @return applications left pending
+     */
+    public int getLeftPending() {
+        return leftPending;
+    }
+
+    /**
+     * Gets the number of applications whose status changed.
+     *
+     * @return offers made plus applications rejected
+     */
+    public int getDecided() {
+        return offersMade + rejected;
+    }
+}
@@ -4,6 +4,7 @@ import com.internship.system.model.enums.InternshipLevel;
 import com.internship.system.model.enums.InternshipStatus;
 
 import java.time.LocalDate;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -92,6 +93,22 @@ public class FilterCriteria {
         return Optional.ofNullable(companyName);
     }
 
+    /**
+     * Builds a key identifying the set of internships these criteria select.
+     * Text filters are case-folded because matching on them is case-insensitive,
+     * so criteria differing only in letter case produce the same key.
+     *
+     * @return the normalized key
+     */
+    public String normalizedKey() {
+        return "status=" + (status == null ? "" : status.name())
+                + "|level=" + (level == null ? "" : level.name())
+                + "|major=" + (preferredMajor == null ? "" : preferredMajor.toLowerCase(Locale.ROOT))
+                + "|company=" + (companyName == null ? "" : companyName.toLowerCase(Locale.ROOT))
+                + "|closingBefore=" + (closingDateBefore == null ? "" : closingDateBefore)
+                + "|visible=" + (visibleOnly == null ? "" : visibleOnly);
+    }
+
     /**
      * Creates a new Builder instance.
      *
@@ -101,6 +118,21 @@ public class FilterCriteria {
         return new Builder();
     }
 
+    /**
+     * Creates a Builder pre-populated with this criteria's filters.
+     *
+     * @return a new Builder holding a copy of these filters
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .status(status)
+                .level(level)
+                .preferredMajor(preferredMajor)
+                .companyName(companyName)
+                .closingDateBefore(closingDateBefore)
+                .visibleOnly(visibleOnly);
+    }
+
     /**
      * Builder class for constructing FilterCriteria instances.
      */
@@ -0,0 +1,102 @@
+package com.internship.system.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk CSV import: how many rows were read and imported, how long
+ * it took, and why each rejected row was rejected.
+ */
+public class ImportReport {
+    /** What was imported, e.g. "student". */
+    private final String kind;
+    /** Number of data rows read (header excluded). */
+    private final int rowsRead;
+    /** Number of rows imported. */
+    private final int imported;
+    /** One message per rejected row, in file order. */
+    private final List<String> rejectedRows;
+    /** Time from opening the file to finishing the save, in nanoseconds. */
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new ImportReport.
+     *
+     * @param kind         what was imported
+     * @param rowsRead     number of data rows read
+     * @param imported     number of rows imported
+     * @param rejectedRows one message per rejected row
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public ImportReport(String kind, int rowsRead, int imported, List<String> rejectedRows, long elapsedNanos) {
+        this.kind = kind;
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.rejectedRows = Collections.unmodifiableList(rejectedRows);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets what was imported.
+     *
+     * @return the kind of record, e.g. "student"
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the number of data rows read.
+     *
+     * @return rows read
+     */
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * Gets the number of rows imported.
+     *
+     * @return rows imported
+     */
+    public int getImported() {
+        return imported;
+    }
+
+    /**
+     * Gets the messages for rejected rows, each starting with the line number.
+     *
+     * @return unmodifiable list of rejection messages
+     */
+    public List<String> getRejectedRows() {
+        return rejectedRows;
+    }
+
+    /**
+     * Gets the elapsed time of the import.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the import throughput.
+     *
+     * @return rows read per second
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rowsRead * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Summarizes the import on one line.
+     *
+     * @return counts, elapsed time and throughput
+     */
+    public String summary() {
+        return String.format("Imported %d of %d %s row(s), %d rejected, in %.1f ms (%.0f rows/sec)",
+                imported, rowsRead, kind, rejectedRows.size(), elapsedNanos / 1e6, getRowsPerSecond());
+    }
+}
@@ -2,41 +2,48 @@ package com.internship.system.model;
 
 import com.internship.system.model.enums.InternshipLevel;
 import com.internship.system.model.enums.InternshipStatus;
+import com.internship.system.model.user.Student;
 
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Represents an internship posting in the system.
  * Contains all details about the internship including requirements, dates, and
  * status.
+ * Confirmed offers and status are atomic so slots can be reserved and released
+ * concurrently without locking; FILLED/APPROVED always converges to match the
+ * confirmed offer count. The other editable fields are volatile, so an edit made
+ * under the internship's lock is visible to readers that do not take it.
  */
 public class Internship {
     /** Unique identifier for this internship. */
     private int internshipId;
     /** Title of the internship position. */
-    private String title;
+    private volatile String title;
     /** Detailed description of the internship. */
-    private String description;
+    private volatile String description;
     /** Difficulty level of the internship. */
-    private InternshipLevel level;
+    private volatile InternshipLevel level;
     /** Preferred major field of study for applicants. */
-    private String preferredMajor;
+    private volatile String preferredMajor;
     /** Date when applications open (null if no restriction). */
-    private LocalDate openingDate;
+    private volatile LocalDate openingDate;
     /** Date when applications close (null if no restriction). */
-    private LocalDate closingDate;
+    private volatile LocalDate closingDate;
     /** Current approval status of the internship. */
-    private InternshipStatus status;
+    private final AtomicReference<InternshipStatus> status;
     /** Name of the company offering the internship. */
-    private String companyName;
+    private volatile String companyName;
     /** ID of the company representative managing this internship. */
-    private String representativeInChargeId;
+    private volatile String representativeInChargeId;
     /** Total number of available slots. */
-    private int slots;
+    private volatile int slots;
     /** Whether the internship is visible to students. */
-    private boolean visible;
+    private volatile boolean visible;
     /** Number of confirmed offers (students who accepted). */
-    private int confirmedOffers;
+    private final AtomicInteger confirmedOffers;
 
     /**
      * Constructs a new Internship with all specified parameters.
@@ -75,12 +82,12 @@ public class Internship {
         this.preferredMajor = preferredMajor;
         this.openingDate = openingDate;
         this.closingDate = closingDate;
-        this.status = status;
+        this.status = new AtomicReference<>(status);
         this.companyName = companyName;
         this.representativeInChargeId = representativeInChargeId;
         this.slots = slots;
         this.visible = visible;
-        this.confirmedOffers = confirmedOffers;
+        this.confirmedOffers = new AtomicInteger(confirmedOffers);
     }
 
     /**
@@ -215,7 +222,7 @@ public class Internship {
      * @return the approval status
      */
     public InternshipStatus getStatus() {
-        return status;
+        return status.get();
     }
 
     /**
@@ -224,7 +231,7 @@ public class Internship {
      * @param status the new approval status
      */
     public void setStatus(InternshipStatus status) {
-        this.status = status;
+        this.status.set(status);
     }
 
     /**
@@ -305,7 +312,7 @@ public class Internship {
      * @return the number of confirmed offers
      */
     public int getConfirmedOffers() {
-        return confirmedOffers;
+        return confirmedOffers.get();
     }
 
     /**
@@ -316,12 +323,8 @@ public class Internship {
      * @param confirmedOffers the new number of confirmed offers
      */
     public void setConfirmedOffers(int confirmedOffers) {
-        this.confirmedOffers = confirmedOffers;
-        if (this.confirmedOffers >= slots && status == InternshipStatus.APPROVED) {
-            status = InternshipStatus.FILLED;
-        } else if (this.confirmedOffers < slots && status == InternshipStatus.FILLED) {
-            status = InternshipStatus.APPROVED;
-        }
+        this.confirmedOffers.set(confirmedOffers);
+        reconcileFilledStatus();
     }
 
     /**
@@ -330,7 +333,46 @@ public class Internship {
      * @return true if there are slots available, false otherwise
      */
     public boolean hasAvailableSlots() {
-        return confirmedOffers < slots;
+        return confirmedOffers.get() < slots;
+    }
+
+    /**
+     * Atomically takes one slot if any is left.
+     * Concurrent callers can never push confirmed offers above the slot count.
+     * Status is updated to FILLED when the last slot is taken.
+     *
+     * @return true if a slot was reserved, false if the internship is full
+     */
+    public boolean tryReserveSlot() {
+        while (true) {
+            int current = confirmedOffers.get();
+            if (current >= slots) {
+                return false;
+            }
+            if (confirmedOffers.compareAndSet(current, current + 1)) {
+                reconcileFilledStatus();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Atomically gives back one slot, if any is taken.
+     * Status is updated back to APPROVED if it was FILLED.
+     *
+     * @return true if a slot was released, false if there were no confirmed offers
+     */
+    public boolean releaseSlot() {
+        while (true) {
+            int current = confirmedOffers.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (confirmedOffers.compareAndSet(current, current - 1)) {
+                reconcileFilledStatus();
+                return true;
+            }
+        }
     }
 
     /**
@@ -338,12 +380,7 @@ public class Internship {
      * Automatically updates status to FILLED if all slots are taken.
      */
     public void registerConfirmedOffer() {
-        if (confirmedOffers < slots) {
-            confirmedOffers++;
-            if (confirmedOffers >= slots) {
-                status = InternshipStatus.FILLED;
-            }
-        }
+        tryReserveSlot();
     }
 
     /**
@@ -351,10 +388,27 @@ public class Internship {
      * Automatically updates status back to APPROVED if slots become available.
      */
     public void revokeConfirmedOffer() {
-        if (confirmedOffers > 0) {
-            confirmedOffers--;
-            if (status == InternshipStatus.FILLED && confirmedOffers < slots) {
-                status = InternshipStatus.APPROVED;
+        releaseSlot();
+    }
+
+    /**
+     * Flips status between APPROVED and FILLED to match the confirmed offer count.
+     * Retries until the count it decided on is still current after the status
+     * change, so the last concurrent reservation or release always wins.
+     */
+    private void reconcileFilledStatus() {
+        while (true) {
+            int offers = confirmedOffers.get();
+            InternshipStatus current = status.get();
+            InternshipStatus target = current;
+            if (current == InternshipStatus.APPROVED && offers >= slots) {
+                target = InternshipStatus.FILLED;
+            } else if (current == InternshipStatus.FILLED && offers < slots) {
+                target = InternshipStatus.APPROVED;
+            }
+            if ((target == current || status.compareAndSet(current, target))
+                    && confirmedOffers.get() == offers) {
+                return;
             }
         }
     }
@@ -377,6 +431,26 @@ public class Internship {
                 && (closingDate == null || !date.isAfter(closingDate));
     }
 
+    /**
+     * Checks if a student may view and apply to this internship on the given date.
+     * The internship must be approved, visible, have slots left and be open; its
+     * preferred major must match the student's major; students in year 1-2 may
+     * only take BASIC internships.
+     *
+     * @param student the student
+     * @param date    the date to check
+     * @return true if the student is eligible, false otherwise
+     */
+    public boolean isEligibleFor(Student student, LocalDate date) {
+        if (status.get() != InternshipStatus.APPROVED || !visible || !hasAvailableSlots() || !isOpenOn(date)) {
+            return false;
+        }
+        if (student.getYearOfStudy() <= 2 && level != InternshipLevel.BASIC) {
+            return false;
+        }
+        return preferredMajor != null && preferredMajor.equalsIgnoreCase(student.getMajor());
+    }
+
     /**
      * Validates that the date range is valid (closing date not before opening
      * date).
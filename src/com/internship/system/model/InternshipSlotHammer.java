@@ -0,0 +1,135 @@
+package com.internship.system.model;
+
+import com.internship.system.model.enums.InternshipLevel;
+import com.internship.system.model.enums.InternshipStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command-line hammer for {@link Internship#tryReserveSlot()} and
+ * {@link Internship#releaseSlot()}. Worker threads reserve and release slots
+ * of one internship as fast as they can, each releasing only slots it
+ * reserved itself, while a watcher thread samples the count. The run fails if
+ * the watcher or a worker ever sees confirmed offers above the slots or below
+ * zero, or if at the end the count differs from the reservations still held or
+ * the status is not FILLED exactly when every slot is taken.
+ * <p>
+ * Usage: {@code InternshipSlotHammer [seconds] [threads] [slots]},
+ * e.g. {@code InternshipSlotHammer 3 16 5}
+ */
+public class InternshipSlotHammer {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private InternshipSlotHammer() {
+    }
+
+    /**
+     * Runs the hammer.
+     *
+     * @param args command-line arguments (see class documentation)
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int threads = args.length > 1 ? Integer.parseInt(args[1])
+                : Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+        int slots = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        if (seconds <= 0 || threads <= 0 || slots <= 0) {
+            throw new IllegalArgumentException("Seconds, threads and slots must be positive");
+        }
+
+        LocalDate today = LocalDate.now();
+        Internship internship = new Internship(1, "Hammered", "Slot hammer", InternshipLevel.BASIC,
+                "Computer Science", today, today.plusDays(1), InternshipStatus.APPROVED,
+                "Hammer Co", "REP", slots, true, 0);
+        AtomicReference<String> problem = new AtomicReference<>();
+        LongAdder reserved = new LongAdder();
+        LongAdder released = new LongAdder();
+        LongAdder refused = new LongAdder();
+        long[] held = new long[threads];
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            Random random = new Random(t);
+            workers.add(new Thread(() -> {
+                while (System.nanoTime() < deadline && problem.get() == null) {
+                    if (held[worker] > 0 && random.nextBoolean()) {
+                        if (!internship.releaseSlot()) {
+                            problem.compareAndSet(null, "release refused while this thread held a slot");
+                        }
+                        held[worker]--;
+                        released.increment();
+                    } else if (internship.tryReserveSlot()) {
+                        held[worker]++;
+                        reserved.increment();
+                    } else {
+                        refused.increment();
+                    }
+                    check(internship.getConfirmedOffers(), slots, problem);
+                }
+            }, "hammer-" + t));
+        }
+        Thread watcher = new Thread(() -> {
+            while (System.nanoTime() < deadline && problem.get() == null) {
+                check(internship.getConfirmedOffers(), slots, problem);
+            }
+        }, "hammer-watcher");
+
+        long start = System.nanoTime();
+        workers.forEach(Thread::start);
+        watcher.start();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        watcher.join();
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long stillHeld = 0;
+        for (long count : held) {
+            stillHeld += count;
+        }
+        int confirmed = internship.getConfirmedOffers();
+        if (confirmed != stillHeld) {
+            problem.compareAndSet(null, confirmed + " confirmed offers, but threads hold " + stillHeld);
+        }
+        boolean full = confirmed == slots;
+        if (full != (internship.getStatus() == InternshipStatus.FILLED)) {
+            problem.compareAndSet(null, "status " + internship.getStatus() + " with " + confirmed + " of " + slots
+                    + " slots taken");
+        }
+
+        long operations = reserved.sum() + released.sum() + refused.sum();
+        System.out.printf("%d thread(s), %d slot(s), %d s, %d CPU(s)%n",
+                threads, slots, seconds, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%d reserved, %d released, %d refused as full (%.1fk ops/s)%n",
+                reserved.sum(), released.sum(), refused.sum(), operations / elapsed / 1000);
+        System.out.printf("Final: %d confirmed offer(s), status %s%n", confirmed, internship.getStatus());
+        if (problem.get() != null) {
+            System.out.println("INCONSISTENT: " + problem.get());
+            System.exit(1);
+        }
+        System.out.println("Confirmed offers never exceeded the slots.");
+    }
+
+    /**
+     * Records a problem if a sampled count is out of range.
+     *
+     * @param confirmed the sampled number of confirmed offers
+     * @param slots     the number of slots
+     * @param problem   where the first problem found is recorded
+     */
+    private static void check(int confirmed, int slots, AtomicReference<String> problem) {
+        if (confirmed > slots || confirmed < 0) {
+            problem.compareAndSet(null, confirmed + " confirmed offers for " + slots + " slot(s)");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.internship.system.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents one page of a paginated listing.
+ * The next cursor is opaque to callers and is passed back unchanged to fetch
+ * the following page.
+ *
+ * @param <T> the type of items in the page
+ */
+public class Page<T> {
+    /** Items on this page, in listing order. */
+    private final List<T> items;
+    /** Cursor for the following page, or null if this is the last page. */
+    private final String nextCursor;
+
+    /**
+     * Constructs a new Page.
+     *
+     * @param items      the items on this page
+     * @param nextCursor the cursor for the following page, or null if none
+     */
+    public Page(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the items on this page.
+     *
+     * @return unmodifiable list of items
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the cursor for the following page.
+     *
+     * @return Optional containing the next cursor, or empty if this is the last page
+     */
+    public Optional<String> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+
+    /**
+     * Checks if there is a following page.
+     *
+     * @return true if more items are available, false otherwise
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Checks if this page has no items.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,243 @@
+package com.internship.system.model;
+
+import com.internship.system.model.enums.ApplicationStatus;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time placement statistics for staff, read from aggregates that are
+ * kept up to date on every change rather than computed by scanning.
+ */
+public class PlacementDashboard {
+    /** Number of applications in each status. */
+    private final Map<ApplicationStatus, Integer> applicationsByStatus;
+    /** Number of internships awaiting staff approval. */
+    private final int pendingInternships;
+    /** Number of company representatives not yet approved. */
+    private final int pendingRepresentatives;
+    /** Number of withdrawal requests awaiting a decision. */
+    private final int outstandingWithdrawals;
+    /** Fill rate per company, by company name. */
+    private final List<CompanyFill> companies;
+    /** Demand and supply per preferred major, by major. */
+    private final List<MajorBalance> majors;
+
+    /**
+     * Constructs a new PlacementDashboard.
+     *
+     * @param applicationsByStatus   number of applications in each status
+     * @param pendingInternships     number of internships awaiting approval
+     * @param pendingRepresentatives number of representatives not yet approved
+     * @param outstandingWithdrawals number of withdrawal requests awaiting a decision
+     * @param companies              fill rate per company, by company name
+     * @param majors                 demand and supply per major, by major
+     */
+    public PlacementDashboard(Map<ApplicationStatus, Integer> applicationsByStatus, int pendingInternships,
+            int pendingRepresentatives, int outstandingWithdrawals, List<CompanyFill> companies,
+            List<MajorBalance> majors) {
+        this.applicationsByStatus = Collections.unmodifiableMap(applicationsByStatus);
+        this.pendingInternships = pendingInternships;
+        this.pendingRepresentatives = pendingRepresentatives;
+        this.outstandingWithdrawals = outstandingWithdrawals;
+        this.companies = Collections.unmodifiableList(companies);
+        this.majors = Collections.unmodifiableList(majors);
+    }
+
+    /**
+     * Gets the number of applications in each status.
+     *
+     * @return unmodifiable map with an entry for every status
+     */
+    public Map<ApplicationStatus, Integer> getApplicationsByStatus() {
+        return applicationsByStatus;
+    }
+
+    /**
+     * Gets the number of internships awaiting staff approval.
+     *
+     * @return PENDING internships
+     */
+    public int getPendingInternships() {
+        return pendingInternships;
+    }
+
+    /**
+     * Gets the number of company representatives not yet approved.
+     *
+     * @return unapproved representatives
+     */
+    public int getPendingRepresentatives() {
+        return pendingRepresentatives;
+    }
+
+    /**
+     * Gets the number of withdrawal requests awaiting a decision.
+     *
+     * @return outstanding withdrawal requests
+     */
+    public int getOutstandingWithdrawals() {
+        return outstandingWithdrawals;
+    }
+
+    /**
+     * Gets the fill rate per company.
+     *
+     * @return unmodifiable list ordered by company name
+     */
+    public List<CompanyFill> getCompanies() {
+        return companies;
+    }
+
+    /**
+     * Gets demand and supply per preferred major.
+     *
+     * @return unmodifiable list ordered by major
+     */
+    public List<MajorBalance> getMajors() {
+        return majors;
+    }
+
+    /**
+     * Slots filled at one company, over its internships that have been approved
+     * (APPROVED, FILLED or CLOSED).
+     */
+    public static class CompanyFill {
+        /** The company name. */
+        private final String companyName;
+        /** Number of approved internships. */
+        private final int internships;
+        /** Total slots over approved internships. */
+        private final int slots;
+        /** Total confirmed offers over approved internships. */
+        private final int confirmedOffers;
+
+        /**
+         * Constructs a new CompanyFill.
+         *
+         * @param companyName     the company name
+         * @param internships     number of approved internships
+         * @param slots           total slots
+         * @param confirmedOffers total confirmed offers
+         */
+        public CompanyFill(String companyName, int internships, int slots, int confirmedOffers) {
+            this.companyName = companyName;
+            this.internships = internships;
+            this.slots = slots;
+            this.confirmedOffers = confirmedOffers;
+        }
+
+        /**
+         * Gets the company name.
+         *
+         * @return the company name
+         */
+        public String getCompanyName() {
+            return companyName;
+        }
+
+        /**
+         * Gets the number of approved internships.
+         *
+         * @return approved internships
+         */
+        public int getInternships() {
+            return internships;
+        }
+
+        /**
+         * Gets the total slots over approved internships.
+         *
+         * @return total slots
+         */
+        public int getSlots() {
+            return slots;
+        }
+
+        /**
+         * Gets the total confirmed offers over approved internships.
+         *
+         * @return total confirmed offers
+         */
+        public int getConfirmedOffers() {
+            return confirmedOffers;
+        }
+
+        /**
+         * Gets the fraction of slots filled.
+         *
+         * @return confirmed offers over slots, or 0 if there are no slots
+         */
+        public double getFillRate() {
+            return slots == 0 ? 0.0 : confirmedOffers / (double) slots;
+        }
+    }
+
+    /**
+     * Demand for and supply of places for one preferred major. Demand is the
+     * number of PENDING applications to internships preferring the major; supply
+     * is the number of open slots in its APPROVED internships.
+     */
+    public static class MajorBalance {
+        /** The major. */
+        private final String major;
+        /** Number of PENDING applications. */
+        private final int pendingApplications;
+        /** Number of open slots in APPROVED internships. */
+        private final int openSlots;
+
+        /**
+         * Constructs a new MajorBalance.
+         *
+         * @param major               the major
+         * @param pendingApplications number of PENDING applications
+         * @param openSlots           number of open slots
+         */
+        public MajorBalance(String major, int pendingApplications, int openSlots) {
+            this.major = major;
+            this.pendingApplications = pendingApplications;
+            this.openSlots = openSlots;
+        }
+
+        /**
+         * Gets the major.
+         *
+         * @return the major
+         */
+        public String getMajor() {
+            return major;
+        }
+
+        /**
+         * Gets the number of PENDING applications.
+         *
+         * @return PENDING applications
+         */
+        public int getPendingApplications() {
+            return pendingApplications;
+        }
+
+        /**
+         * Gets the number of open slots in APPROVED internships.
+         *
+         * @return open slots
+         */
+        public int getOpenSlots() {
+            return openSlots;
+        }
+
+        /**
+         * Gets how many PENDING applications there are per open slot.
+         *
+         * @return applications per open slot, or positive infinity if none are open
+         *         and some are waiting, or 0 if none are waiting
+         */
+        public double getDemandRatio() {
+            if (pendingApplications == 0) {
+                return 0.0;
+            }
+            return openSlots == 0 ? Double.POSITIVE_INFINITY : pendingApplications / (double) openSlots;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.internship.system.model;
+
+/**
+ * An internship recommended to a student, with its score and the factors behind it.
+ */
+public class Recommendation {
+    /** The recommended internship. */
+    private final Internship internship;
+    /** Overall score from 0 to 1; higher is a better recommendation. */
+    private final double score;
+    /** How well the internship's level suits the student's year, from 0 to 1. */
+    private final double levelFit;
+    /** Fraction of the internship's slots still open. */
+    private final double openSlotRatio;
+    /** How soon the internship closes, from 0 (no closing date or far off) to 1 (closing today). */
+    private final double urgency;
+    /** PENDING applications per slot. */
+    private final double applicantsPerSlot;
+
+    /**
+     * Constructs a new Recommendation.
+     *
+     * @param internship        the recommended internship
+     * @param score             overall score from 0 to 1
+     * @param levelFit          level fit from 0 to 1
+     * @param openSlotRatio     fraction of slots still open
+     * @param urgency           closing-date urgency from 0 to 1
+     * @param applicantsPerSlot PENDING applications per slot
+     */
+    public Recommendation(Internship internship, double score, double levelFit, double openSlotRatio,
+            double urgency, double applicantsPerSlot) {
+        this.internship = internship;
+        this.score = score;
+        this.levelFit = levelFit;
+        this.openSlotRatio = openSlotRatio;
+        this.urgency = urgency;
+        this.applicantsPerSlot = applicantsPerSlot;
+    }
+
+    /**
+     * Gets the recommended internship.
+     *
+     * @return the internship
+     */
+    public Internship getInternship() {
+        return internship;
+    }
+
+    /**
+     * Gets the overall score.
+     *
+     * @return score from 0 to 1
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Gets how well the internship's level suits the student's year.
+     *
+     * @return level fit from 0 to 1
+     */
+    public double getLevelFit() {
+        return levelFit;
+    }
+
+    /**
+     * Gets the fraction of the internship's slots still open.
+     *
+     * @return open slot ratio from 0 to 1
+     */
+    public double getOpenSlotRatio() {
+        return openSlotRatio;
+    }
+
+    /**
+     * Gets how soon the internship closes.
+     *
+     * @return urgency from 0 to 1
+     */
+    public double getUrgency() {
+        return urgency;
+    }
+
+    /**
+     * Gets the number of PENDING applications per slot.
+     *
+     * @return applicants per slot
+     */
+    public double getApplicantsPerSlot() {
+        return applicantsPerSlot;
+    }
+}
@@ -11,5 +11,7 @@ public enum InternshipStatus {
     /** Internship has been rejected by career center staff. */
     REJECTED,
     /** Internship has been filled (all slots confirmed). */
-    FILLED
+    FILLED,
+    /** Internship's closing date has passed; it is hidden and no longer accepts applications. */
+    CLOSED
 }
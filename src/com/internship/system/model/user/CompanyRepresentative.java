@@ -12,7 +12,7 @@ public class CompanyRepresentative extends User {
     /** Position/title of the representative. */
     private final String position;
     /** Whether the representative's account has been approved by staff. */
-    private boolean approved;
+    private volatile boolean approved;
 
     /**
      * Constructs a new CompanyRepresentative with the specified information.
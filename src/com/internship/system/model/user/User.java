@@ -10,7 +10,7 @@ public abstract class User {
     /** Full name of the user. */
     private final String name;
     /** User's password for authentication. */
-    private String password;
+    private volatile String password;
 
     /**
      * Constructs a new User with the specified credentials.
@@ -0,0 +1,385 @@
+package com.internship.system.server;
+
+import com.internship.system.controller.AuthController;
+import com.internship.system.controller.CompanyController;
+import com.internship.system.controller.StaffController;
+import com.internship.system.controller.StudentController;
+import com.internship.system.data.DataManager;
+import com.internship.system.model.FilterCriteria;
+import com.internship.system.model.enums.ApplicationStatus;
+import com.internship.system.model.enums.InternshipLevel;
+import com.internship.system.model.enums.InternshipStatus;
+import com.internship.system.model.user.CareerCenterStaff;
+import com.internship.system.model.user.CompanyRepresentative;
+import com.internship.system.model.user.Student;
+import com.internship.system.model.user.User;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless HTTP/JSON API over the student, company and staff controllers.
+ * Requests authenticate with HTTP Basic auth (user ID and password) and act as
+ * that user; parameters are passed in the query string. Connections are kept
+ * alive between requests, and requests are handled by a bounded worker pool
+ * whose queue pushes back on the accepting thread when full.
+ * <p>
+ * Endpoints:
+ * <ul>
+ *   <li>{@code GET /api/internships} - browse one page; filters {@code status, level, major,
+ *       company, closingBefore}, paging {@code pageSize, cursor}</li>
+ *   <li>{@code GET /api/applications} - a student's applications, or a representative's
+ *       applications for {@code internshipId}</li>
+ *   <li>{@code POST /api/applications?internshipId=} - student applies</li>
+ *   <li>{@code POST /api/applications/{id}/accept} - student accepts an offer</li>
+ *   <li>{@code POST /api/applications/{id}/process?status=} - representative sets
+ *       SUCCESSFUL_PENDING or UNSUCCESSFUL</li>
+ *   <li>{@code POST /api/internships/{id}/approve} and {@code /reject} - staff decision</li>
+ * </ul>
+ */
+public class ApiServer {
+    /** Page size used when the request does not give one. */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    /** Largest page size a request may ask for. */
+    private static final int MAX_PAGE_SIZE = 200;
+    /** Requests that may wait for a worker before the accepting thread runs them itself. */
+    private static final int QUEUE_CAPACITY = 1024;
+
+    /** Shared data manager. */
+    private final DataManager dataManager;
+    /** Embedded HTTP server. */
+    private final HttpServer server;
+    /** Bounded pool handling requests. */
+    private final ThreadPoolExecutor workers;
+
+    /**
+     * Constructs a new ApiServer. Call {@link #start()} to begin serving.
+     *
+     * @param dataManager   the shared data manager (already loaded)
+     * @param port          the TCP port to listen on (0 picks a free port)
+     * @param workerThreads number of request worker threads
+     * @throws IOException if the port cannot be bound
+     */
+    public ApiServer(DataManager dataManager, int port, int workerThreads) throws IOException {
+        this.dataManager = dataManager;
+        // Headers and body go out in separate writes; without TCP_NODELAY, Nagle's
+        // algorithm and delayed ACKs add ~40 ms to every kept-alive request
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(port), QUEUE_CAPACITY);
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                task -> {
+                    Thread thread = new Thread(task, "api-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        server.createContext("/api/", this::handle);
+        server.setExecutor(workers);
+    }
+
+    /**
+     * Starts serving requests in the background.
+     */
+    public void start() {
+        server.start();
+        System.out.println("Internship API listening on port " + getPort());
+    }
+
+    /**
+     * Stops the server, waiting up to the given time for running requests.
+     *
+     * @param delaySeconds seconds to wait for requests in progress
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        workers.shutdown();
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles one request: authenticates, routes, and writes the JSON response.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            drain(exchange.getRequestBody());
+            Optional<User> userOpt = authenticate(exchange);
+            if (userOpt.isEmpty()) {
+                exchange.getResponseHeaders().set("WWW-Authenticate", "Basic realm=\"internship\"");
+                respond(exchange, 401, Json.error("Invalid credentials"));
+                return;
+            }
+            try {
+                route(exchange, userOpt.get());
+            } catch (IllegalArgumentException ex) {
+                respond(exchange, 400, Json.error(ex.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Dispatches a request to the endpoint for its method and path.
+     *
+     * @param exchange the HTTP exchange
+     * @param user     the authenticated user
+     * @throws IOException if the response cannot be written
+     */
+    private void route(HttpExchange exchange, User user) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().replaceAll("/+$", "").split("/");
+        Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+        // path[0] is empty and path[1] is "api"
+        String resource = path.length > 2 ? path[2] : "";
+        String action = path.length > 4 ? path[4] : "";
+
+        if (resource.equals("internships") && path.length == 3 && method.equals("GET")) {
+            browse(exchange, user, params);
+        } else if (resource.equals("internships") && path.length == 5 && method.equals("POST")) {
+            decideInternship(exchange, user, parseInt(path[3], "internship ID"), action);
+        } else if (resource.equals("applications") && path.length == 3 && method.equals("GET")) {
+            listApplications(exchange, user, params);
+        } else if (resource.equals("applications") && path.length == 3 && method.equals("POST")) {
+            apply(exchange, user, params);
+        } else if (resource.equals("applications") && path.length == 5 && method.equals("POST")) {
+            updateApplication(exchange, user, parseInt(path[3], "application ID"), action, params);
+        } else {
+            respond(exchange, 404, Json.error("No such endpoint: " + method + " " + exchange.getRequestURI().getPath()));
+        }
+    }
+
+    private void browse(HttpExchange exchange, User user, Map<String, String> params) throws IOException {
+        FilterCriteria criteria = criteriaFrom(params);
+        int pageSize = params.containsKey("pageSize") ? parseInt(params.get("pageSize"), "pageSize") : DEFAULT_PAGE_SIZE;
+        if (pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize must be at most " + MAX_PAGE_SIZE);
+        }
+        String cursor = params.get("cursor");
+        if (user instanceof Student student) {
+            respond(exchange, 200, Json.internshipPage(
+                    new StudentController(dataManager, student).getVisibleInternships(criteria, pageSize, cursor)));
+        } else if (user instanceof CompanyRepresentative representative) {
+            respond(exchange, 200, Json.internshipPage(
+                    new CompanyController(dataManager, representative).getInternships(criteria, pageSize, cursor)));
+        } else if (user instanceof CareerCenterStaff staff) {
+            respond(exchange, 200, Json.internshipPage(
+                    new StaffController(dataManager, staff).generateReport(criteria, pageSize, cursor)));
+        } else {
+            respond(exchange, 403, Json.error("Unsupported user role"));
+        }
+    }
+
+    private void listApplications(HttpExchange exchange, User user, Map<String, String> params) throws IOException {
+        if (user instanceof Student student) {
+            respond(exchange, 200, Json.array(
+                    new StudentController(dataManager, student).viewAppliedInternships(), Json::application));
+        } else if (user instanceof CompanyRepresentative representative) {
+            int internshipId = parseInt(params.get("internshipId"), "internshipId");
+            respond(exchange, 200, Json.array(
+                    new CompanyController(dataManager, representative).viewApplicationsForInternship(internshipId),
+                    Json::application));
+        } else {
+            respond(exchange, 403, Json.error("Only students and company representatives can list applications"));
+        }
+    }
+
+    private void apply(HttpExchange exchange, User user, Map<String, String> params) throws IOException {
+        if (!(user instanceof Student student)) {
+            respond(exchange, 403, Json.error("Only students can apply"));
+            return;
+        }
+        int internshipId = parseInt(params.get("internshipId"), "internshipId");
+        boolean applied = new StudentController(dataManager, student).applyForInternship(internshipId);
+        respondOutcome(exchange, applied, "Cannot apply for internship " + internshipId);
+    }
+
+    private void updateApplication(HttpExchange exchange,
+            User user,
+            int applicationId,
+            String action,
+            Map<String, String> params) throws IOException {
+        if (action.equals("accept")) {
+            if (!(user instanceof Student student)) {
+                respond(exchange, 403, Json.error("Only students can accept offers"));
+                return;
+            }
+            boolean accepted = new StudentController(dataManager, student).acceptOffer(applicationId);
+            respondOutcome(exchange, accepted, "Cannot accept application " + applicationId);
+        } else if (action.equals("process")) {
+            if (!(user instanceof CompanyRepresentative representative)) {
+                respond(exchange, 403, Json.error("Only company representatives can process applications"));
+                return;
+            }
+            ApplicationStatus status = parseEnum(ApplicationStatus.class, params.get("status"), "status");
+            boolean processed = new CompanyController(dataManager, representative).processApplication(applicationId, status);
+            respondOutcome(exchange, processed, "Cannot process application " + applicationId);
+        } else {
+            respond(exchange, 404, Json.error("Unknown application action: " + action));
+        }
+    }
+
+    private void decideInternship(HttpExchange exchange, User user, int internshipId, String action) throws IOException {
+        if (!(user instanceof CareerCenterStaff staff)) {
+            respond(exchange, 403, Json.error("Only career center staff can approve internships"));
+            return;
+        }
+        StaffController staffController = new StaffController(dataManager, staff);
+        switch (action) {
+            case "approve" -> respondOutcome(exchange, staffController.approveInternship(internshipId),
+                    "Cannot approve internship " + internshipId);
+            case "reject" -> respondOutcome(exchange, staffController.rejectInternship(internshipId),
+                    "Cannot reject internship " + internshipId);
+            default -> respond(exchange, 404, Json.error("Unknown internship action: " + action));
+        }
+    }
+
+    /**
+     * Authenticates the request from its Basic authorization header.
+     *
+     * @param exchange the HTTP exchange
+     * @return the user, or empty if the credentials are missing or wrong
+     */
+    private Optional<User> authenticate(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.regionMatches(true, 0, "Basic ", 0, 6)) {
+            return Optional.empty();
+        }
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(header.substring(6).trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        int separator = credentials.indexOf(':');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        return new AuthController(dataManager).login(credentials.substring(0, separator), credentials.substring(separator + 1));
+    }
+
+    private static FilterCriteria criteriaFrom(Map<String, String> params) {
+        FilterCriteria.Builder builder = FilterCriteria.builder();
+        if (params.containsKey("status")) {
+            builder.status(parseEnum(InternshipStatus.class, params.get("status"), "status"));
+        }
+        if (params.containsKey("level")) {
+            builder.level(parseEnum(InternshipLevel.class, params.get("level"), "level"));
+        }
+        if (params.containsKey("major")) {
+            builder.preferredMajor(params.get("major"));
+        }
+        if (params.containsKey("company")) {
+            builder.companyName(params.get("company"));
+        }
+        if (params.containsKey("closingBefore")) {
+            try {
+                builder.closingDateBefore(LocalDate.parse(params.get("closingBefore")));
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("closingBefore must be YYYY-MM-DD");
+            }
+        }
+        return builder.build();
+    }
+
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static int parseInt(String value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + name);
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + name);
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static void respondOutcome(HttpExchange exchange, boolean success, String failureMessage) throws IOException {
+        if (success) {
+            respond(exchange, 200, "{\"ok\":true}");
+        } else {
+            respond(exchange, 409, Json.error(failureMessage));
+        }
+    }
+
+    /**
+     * Writes a JSON response with a fixed content length, so the connection can be reused.
+     *
+     * @param exchange the HTTP exchange
+     * @param status   the HTTP status code
+     * @param json     the response body
+     * @throws IOException if the response cannot be written
+     */
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Reads and discards the request body so the connection can be reused.
+     *
+     * @param body the request body
+     * @throws IOException if reading fails
+     */
+    private static void drain(InputStream body) throws IOException {
+        try (body) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
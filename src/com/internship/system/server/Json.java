@@ -0,0 +1,109 @@
+package com.internship.system.server;
+
+import com.internship.system.model.Application;
+import com.internship.system.model.Internship;
+import com.internship.system.model.Page;
+import com.internship.system.util.JsonUtils;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Minimal JSON encoding for the API responses.
+ */
+final class Json {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Json() {
+    }
+
+    /**
+     * Encodes a string as a JSON string literal.
+     *
+     * @param value the string (null encodes as null)
+     * @return the JSON literal
+     */
+    static String string(String value) {
+        return JsonUtils.string(value);
+    }
+
+    /**
+     * Encodes an internship as a JSON object.
+     *
+     * @param internship the internship
+     * @return the JSON object
+     */
+    static String internship(Internship internship) {
+        return "{\"internshipId\":" + internship.getInternshipId()
+                + ",\"title\":" + string(internship.getTitle())
+                + ",\"description\":" + string(internship.getDescription())
+                + ",\"level\":" + string(String.valueOf(internship.getLevel()))
+                + ",\"preferredMajor\":" + string(internship.getPreferredMajor())
+                + ",\"openingDate\":" + string(internship.getOpeningDate() == null ? null : internship.getOpeningDate().toString())
+                + ",\"closingDate\":" + string(internship.getClosingDate() == null ? null : internship.getClosingDate().toString())
+                + ",\"status\":" + string(String.valueOf(internship.getStatus()))
+                + ",\"companyName\":" + string(internship.getCompanyName())
+                + ",\"slots\":" + internship.getSlots()
+                + ",\"confirmedOffers\":" + internship.getConfirmedOffers()
+                + ",\"visible\":" + internship.isVisible()
+                + "}";
+    }
+
+    /**
+     * Encodes an application as a JSON object.
+     *
+     * @param application the application
+     * @return the JSON object
+     */
+    static String application(Application application) {
+        return "{\"applicationId\":" + application.getApplicationId()
+                + ",\"studentId\":" + string(application.getStudentId())
+                + ",\"internshipId\":" + application.getInternshipId()
+                + ",\"status\":" + string(String.valueOf(application.getStatus()))
+                + ",\"withdrawalRequested\":" + application.isWithdrawalRequested()
+                + ",\"offeredAt\":" + string(application.getOfferedAt() == null ? null : application.getOfferedAt().toString())
+                + "}";
+    }
+
+    /**
+     * Encodes a list as a JSON array.
+     *
+     * @param items   the items
+     * @param encoder encodes one item
+     * @param <T>     the item type
+     * @return the JSON array
+     */
+    static <T> String array(List<T> items, Function<T, String> encoder) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(encoder.apply(items.get(i)));
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Encodes a page of internships with its next-page cursor.
+     *
+     * @param page the page
+     * @return the JSON object
+     */
+    static String internshipPage(Page<Internship> page) {
+        return "{\"items\":" + array(page.getItems(), Json::internship)
+                + ",\"nextCursor\":" + string(page.getNextCursor().orElse(null))
+                + "}";
+    }
+
+    /**
+     * Encodes an error message.
+     *
+     * @param message the message
+     * @return the JSON object
+     */
+    static String error(String message) {
+        return "{\"error\":" + string(message) + "}";
+    }
+}
@@ -0,0 +1,119 @@
+package com.internship.system.server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Command-line load generator for the {@link ApiServer}.
+ * Runs a number of client threads, each sending the same request back to back
+ * over a kept-alive connection for a fixed time, then prints requests/sec,
+ * latency percentiles and the count of each response status.
+ * <p>
+ * Usage: {@code LoadTestClient <baseUrl> <userId> <password> [threads] [seconds] [method] [path]},
+ * e.g. {@code LoadTestClient http://localhost:8080 U2310001A password 16 10 GET /api/internships?pageSize=20}
+ */
+public class LoadTestClient {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private LoadTestClient() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args command-line arguments (see class documentation)
+     * @throws InterruptedException if interrupted while waiting for the clients
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 3) {
+            System.out.println("Usage: LoadTestClient <baseUrl> <userId> <password> [threads] [seconds] [method] [path]");
+            return;
+        }
+        String baseUrl = args[0];
+        String credentials = Base64.getEncoder()
+                .encodeToString((args[1] + ":" + args[2]).getBytes(StandardCharsets.UTF_8));
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+        int seconds = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+        String method = args.length > 5 ? args[5] : "GET";
+        String path = args.length > 6 ? args[6] : "/api/internships";
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Basic " + credentials)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        AtomicBoolean stop = new AtomicBoolean();
+        LongAdder requests = new LongAdder();
+        Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        List<long[]> latencies = new ArrayList<>();
+        int[] sampleCounts = new int[threads];
+        List<Thread> clients = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            int clientIndex = i;
+            long[] samples = new long[1 << 20];
+            latencies.add(samples);
+            Thread client = new Thread(() -> {
+                HttpClient http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+                int count = 0;
+                while (!stop.get()) {
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                        status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception ex) {
+                        status = -1;
+                    }
+                    if (count < samples.length) {
+                        samples[count] = System.nanoTime() - start;
+                    }
+                    count++;
+                    requests.increment();
+                    statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+                }
+                sampleCounts[clientIndex] = Math.min(count, samples.length);
+            }, "load-client-" + i);
+            clients.add(client);
+        }
+
+        long start = System.nanoTime();
+        clients.forEach(Thread::start);
+        Thread.sleep(seconds * 1000L);
+        stop.set(true);
+        for (Thread client : clients) {
+            client.join();
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long[] all = IntStream.range(0, threads)
+                .mapToObj(i -> Arrays.stream(latencies.get(i), 0, sampleCounts[i]))
+                .flatMapToLong(samples -> samples)
+                .sorted()
+                .toArray();
+        System.out.printf("%d requests in %.1f s with %d threads: %.0f requests/sec%n",
+                requests.sum(), elapsed, threads, requests.sum() / elapsed);
+        if (all.length > 0) {
+            System.out.printf("Latency p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    all[all.length / 2] / 1e6,
+                    all[Math.min(all.length - 1, (int) (all.length * 0.99))] / 1e6,
+                    all[all.length - 1] / 1e6);
+        }
+        statusCounts.forEach((status, count) -> System.out.println("  HTTP " + status + ": " + count.sum()));
+    }
+}
@@ -0,0 +1,301 @@
+package com.internship.system.server;
+
+import com.internship.system.model.user.CareerCenterStaff;
+import com.internship.system.model.user.CompanyRepresentative;
+import com.internship.system.model.user.Student;
+import com.internship.system.model.user.User;
+import com.internship.system.util.ConsoleInput;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the sessions served by a {@link SessionServer}: which are active, the
+ * role each one is logged in as, and how its time splits between waiting for
+ * the client to type and processing requests.
+ */
+public class SessionRegistry {
+    /**
+     * Role a session is currently acting as.
+     */
+    public enum Role {
+        /** Connected but not logged in. */
+        GUEST,
+        /** Logged in as a student. */
+        STUDENT,
+        /** Logged in as a company representative. */
+        COMPANY_REPRESENTATIVE,
+        /** Logged in as career center staff. */
+        STAFF
+    }
+
+    /** Active sessions by session ID. */
+    private final Map<Long, Session> active = new ConcurrentHashMap<>();
+    /** Source of session IDs. */
+    private final AtomicLong nextSessionId = new AtomicLong();
+    /** Number of sessions that have ended. */
+    private final LongAdder closedSessions = new LongAdder();
+    /** Input wait time of sessions that have ended, in nanoseconds. */
+    private final LongAdder closedInputWaitNanos = new LongAdder();
+    /** Processing time of sessions that have ended, in nanoseconds. */
+    private final LongAdder closedProcessingNanos = new LongAdder();
+
+    /**
+     * Registers a new session.
+     *
+     * @param remoteAddress the client's address
+     * @return the new session
+     */
+    public Session open(String remoteAddress) {
+        Session session = new Session(nextSessionId.incrementAndGet(), remoteAddress);
+        active.put(session.getSessionId(), session);
+        return session;
+    }
+
+    /**
+     * Unregisters a session that has ended, keeping its times in the totals.
+     *
+     * @param session the session
+     */
+    public void close(Session session) {
+        if (active.remove(session.getSessionId()) == null) {
+            return;
+        }
+        session.endedNanos = System.nanoTime();
+        closedSessions.increment();
+        closedInputWaitNanos.add(session.getInputWaitNanos());
+        closedProcessingNanos.add(session.getProcessingNanos());
+    }
+
+    /**
+     * Gets the active sessions, oldest first.
+     *
+     * @return snapshot of the active sessions
+     */
+    public List<Session> getActiveSessions() {
+        List<Session> sessions = new ArrayList<>(active.values());
+        sessions.sort(Comparator.comparingLong(Session::getSessionId));
+        return sessions;
+    }
+
+    /**
+     * Gets the number of active sessions.
+     *
+     * @return the active session count
+     */
+    public int getActiveSessionCount() {
+        return active.size();
+    }
+
+    /**
+     * Gets the number of sessions that have ended.
+     *
+     * @return the closed session count
+     */
+    public long getClosedSessionCount() {
+        return closedSessions.sum();
+    }
+
+    /**
+     * Gets the number of active sessions per role.
+     *
+     * @return map of role to active session count (every role present)
+     */
+    public Map<Role, Integer> getActiveCountsByRole() {
+        Map<Role, Integer> counts = new EnumMap<>(Role.class);
+        for (Role role : Role.values()) {
+            counts.put(role, 0);
+        }
+        for (Session session : active.values()) {
+            counts.merge(session.getRole(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Gets the total time all sessions, active and ended, spent waiting for input.
+     *
+     * @return total input wait in nanoseconds
+     */
+    public long getTotalInputWaitNanos() {
+        long total = closedInputWaitNanos.sum();
+        for (Session session : active.values()) {
+            total += session.getInputWaitNanos();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the total time all sessions, active and ended, spent processing.
+     *
+     * @return total processing time in nanoseconds
+     */
+    public long getTotalProcessingNanos() {
+        long total = closedProcessingNanos.sum();
+        for (Session session : active.values()) {
+            total += session.getProcessingNanos();
+        }
+        return total;
+    }
+
+    /**
+     * Summarizes the registry on one line.
+     *
+     * @return active sessions per role and the input-wait/processing split
+     */
+    public String summary() {
+        long inputWait = getTotalInputWaitNanos();
+        long processing = getTotalProcessingNanos();
+        long total = inputWait + processing;
+        double processingShare = total == 0 ? 0.0 : 100.0 * processing / total;
+        return String.format("Sessions: %d active %s, %d closed | input wait %d ms, processing %d ms (%.1f%% processing)",
+                getActiveSessionCount(),
+                getActiveCountsByRole(),
+                getClosedSessionCount(),
+                TimeUnit.NANOSECONDS.toMillis(inputWait),
+                TimeUnit.NANOSECONDS.toMillis(processing),
+                processingShare);
+    }
+
+    /**
+     * One connected client. Times are written only by the session's own thread
+     * and may be read from any thread; a wait in progress counts as input wait.
+     */
+    public static final class Session implements ConsoleInput.InputWaitListener {
+        /** Unique session ID. */
+        private final long sessionId;
+        /** Client's address. */
+        private final String remoteAddress;
+        /** Wall-clock time the session started. */
+        private final Instant startedAt = Instant.now();
+        /** Monotonic time the session started. */
+        private final long startedNanos = System.nanoTime();
+        /** Monotonic time the session ended, or 0 while active. */
+        private volatile long endedNanos;
+        /** Time spent in finished waits for client input, in nanoseconds. */
+        private volatile long inputWaitNanos;
+        /** Monotonic time the current wait for input started, or 0 if not waiting. */
+        private volatile long waitingSinceNanos;
+        /** Role the session is acting as. */
+        private volatile Role role = Role.GUEST;
+        /** ID of the logged-in user, or null when not logged in. */
+        private volatile String userId;
+
+        private Session(long sessionId, String remoteAddress) {
+            this.sessionId = sessionId;
+            this.remoteAddress = remoteAddress;
+        }
+
+        /**
+         * Records the user the session has logged in as.
+         *
+         * @param user the logged-in user, or null after logout
+         */
+        public void setUser(User user) {
+            this.userId = user == null ? null : user.getUserId();
+            if (user instanceof Student) {
+                role = Role.STUDENT;
+            } else if (user instanceof CompanyRepresentative) {
+                role = Role.COMPANY_REPRESENTATIVE;
+            } else if (user instanceof CareerCenterStaff) {
+                role = Role.STAFF;
+            } else {
+                role = Role.GUEST;
+            }
+        }
+
+        /**
+         * Marks the start of a wait for client input.
+         */
+        @Override
+        public void waitStarted() {
+            waitingSinceNanos = System.nanoTime();
+        }
+
+        /**
+         * Marks the end of a wait for client input and adds it to the total.
+         */
+        @Override
+        public void waitEnded() {
+            long since = waitingSinceNanos;
+            if (since != 0) {
+                inputWaitNanos += System.nanoTime() - since;
+                waitingSinceNanos = 0;
+            }
+        }
+
+        /**
+         * Gets the session ID.
+         *
+         * @return the session ID
+         */
+        public long getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the client's address.
+         *
+         * @return the remote address
+         */
+        public String getRemoteAddress() {
+            return remoteAddress;
+        }
+
+        /**
+         * Gets the time the session started.
+         *
+         * @return the start time
+         */
+        public Instant getStartedAt() {
+            return startedAt;
+        }
+
+        /**
+         * Gets the role the session is acting as.
+         *
+         * @return the role
+         */
+        public Role getRole() {
+            return role;
+        }
+
+        /**
+         * Gets the ID of the logged-in user.
+         *
+         * @return the user ID, or null when not logged in
+         */
+        public String getUserId() {
+            return userId;
+        }
+
+        /**
+         * Gets the time spent waiting for input, including a wait in progress.
+         *
+         * @return input wait in nanoseconds
+         */
+        public long getInputWaitNanos() {
+            long since = waitingSinceNanos;
+            long finished = inputWaitNanos;
+            return since == 0 ? finished : finished + (System.nanoTime() - since);
+        }
+
+        /**
+         * Gets the time spent processing: the session's lifetime minus input wait.
+         *
+         * @return processing time in nanoseconds
+         */
+        public long getProcessingNanos() {
+            long end = endedNanos == 0 ? System.nanoTime() : endedNanos;
+            return Math.max(0, end - startedNanos - getInputWaitNanos());
+        }
+    }
+}
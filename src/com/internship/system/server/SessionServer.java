@@ -0,0 +1,176 @@
+package com.internship.system.server;
+
+import com.internship.system.controller.AppController;
+import com.internship.system.data.DataManager;
+import com.internship.system.util.ConsoleInput;
+import com.internship.system.util.SessionOutput;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the console interface to many clients at once over TCP.
+ * Each connection gets its own session (its own AppController, AuthController
+ * and views) reading from and writing to the connection's socket, while all
+ * sessions share one DataManager. Clients can connect with e.g. {@code nc host port}.
+ * Sessions are tracked in a {@link SessionRegistry}; a summary is printed to the
+ * server console every {@code internship.sessionStatsSeconds} seconds (default
+ * 60, 0 disables it).
+ */
+public class SessionServer {
+    /** Shared data manager for all sessions. */
+    private final DataManager dataManager;
+    /** Port to listen on. */
+    private final int port;
+    /** Executor running one task per session. */
+    private final ExecutorService sessions;
+    /** Registry of active and ended sessions. */
+    private final SessionRegistry registry = new SessionRegistry();
+    /** Listening socket, set once the server has started. */
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Constructs a new SessionServer.
+     *
+     * @param dataManager the shared data manager (already loaded)
+     * @param port        the TCP port to listen on (0 picks a free port)
+     */
+    public SessionServer(DataManager dataManager, int port) {
+        this.dataManager = dataManager;
+        this.port = port;
+        this.sessions = newSessionExecutor();
+    }
+
+    /**
+     * Accepts connections until {@link #stop()} is called, starting a session for each.
+     *
+     * @throws IOException if the server socket cannot be opened
+     */
+    public void start() throws IOException {
+        SessionOutput.install();
+        ScheduledExecutorService reporter = startStatsReporter();
+        try (ServerSocket socket = new ServerSocket(port)) {
+            serverSocket = socket;
+            System.out.println("Internship system listening on port " + socket.getLocalPort());
+            while (!socket.isClosed()) {
+                Socket client;
+                try {
+                    client = socket.accept();
+                } catch (IOException ex) {
+                    if (socket.isClosed()) {
+                        break;
+                    }
+                    throw ex;
+                }
+                sessions.execute(() -> serve(client));
+            }
+        } finally {
+            sessions.shutdown();
+            if (reporter != null) {
+                reporter.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Gets the registry of sessions served by this server.
+     *
+     * @return the session registry
+     */
+    public SessionRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Stops accepting connections. Sessions already running are allowed to finish.
+     */
+    public void stop() {
+        ServerSocket socket = serverSocket;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return the local port, or -1 if the server has not started
+     */
+    public int getLocalPort() {
+        ServerSocket socket = serverSocket;
+        return socket == null ? -1 : socket.getLocalPort();
+    }
+
+    /**
+     * Runs one client session on the calling thread.
+     *
+     * @param client the connected client socket
+     */
+    private void serve(Socket client) {
+        SessionRegistry.Session session = registry.open(String.valueOf(client.getRemoteSocketAddress()));
+        try (client) {
+            client.setTcpNoDelay(true);
+            ConsoleInput.bind(client.getInputStream(), session);
+            SessionOutput.bind(client.getOutputStream());
+            try {
+                new AppController(dataManager, session::setUser).runSession();
+            } finally {
+                dataManager.releaseLeasedIds();
+                ConsoleInput.unbind();
+                SessionOutput.unbind();
+            }
+        } catch (NoSuchElementException | UncheckedIOException | IOException ex) {
+            // Client disconnected; everything it changed has already been saved
+        } finally {
+            registry.close(session);
+        }
+    }
+
+    /**
+     * Starts printing the registry summary to the server console at a fixed rate.
+     *
+     * @return the reporter, or null if reporting is disabled
+     */
+    private ScheduledExecutorService startStatsReporter() {
+        int seconds = Integer.getInteger("internship.sessionStatsSeconds", 60);
+        if (seconds <= 0) {
+            return null;
+        }
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "session-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> System.out.println(registry.summary()), seconds, seconds, TimeUnit.SECONDS);
+        return reporter;
+    }
+
+    /**
+     * Creates the session executor: one virtual thread per session when the
+     * runtime supports them (Java 21+), otherwise a cached pool of daemon threads.
+     *
+     * @return the executor
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "session");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
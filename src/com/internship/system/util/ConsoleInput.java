@@ -1,14 +1,22 @@
 package com.internship.system.util;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
 
 /**
  * Utility class for reading input from the console.
  * Provides methods for reading strings, integers, and yes/no responses.
+ * Reads from System.in unless the calling thread has bound its own input
+ * stream, which is how each server session reads from its own socket.
  */
 public final class ConsoleInput {
     /** Shared Scanner instance for reading from System.in. */
     private static final Scanner SCANNER = new Scanner(System.in);
+    /** Scanner bound to the calling thread's session input, if any. */
+    private static final ThreadLocal<Scanner> SESSION_SCANNER = new ThreadLocal<>();
+    /** Told when the calling thread's session starts and stops waiting for input. */
+    private static final ThreadLocal<InputWaitListener> INPUT_WAIT_LISTENER = new ThreadLocal<>();
 
     /**
      * Private constructor to prevent instantiation.
@@ -16,17 +24,62 @@ public final class ConsoleInput {
     private ConsoleInput() {
     }
 
+    /**
+     * Binds the calling thread to its own input stream.
+     * Until {@link #unbind()} is called, every read on this thread comes from it.
+     *
+     * @param in the session's input stream (read as UTF-8)
+     */
+    public static void bind(InputStream in) {
+        bind(in, null);
+    }
+
+    /**
+     * Binds the calling thread to its own input stream and reports when each
+     * read starts and stops blocking on the client.
+     *
+     * @param in                the session's input stream (read as UTF-8)
+     * @param inputWaitListener told when each read starts and stops waiting (can be null)
+     */
+    public static void bind(InputStream in, InputWaitListener inputWaitListener) {
+        SESSION_SCANNER.set(new Scanner(in, StandardCharsets.UTF_8));
+        INPUT_WAIT_LISTENER.set(inputWaitListener);
+    }
+
+    /**
+     * Unbinds the calling thread's input stream, so it reads from System.in again.
+     */
+    public static void unbind() {
+        SESSION_SCANNER.remove();
+        INPUT_WAIT_LISTENER.remove();
+    }
+
     /**
      * Reads a line of text from the console.
      *
      * @param prompt the prompt to display (can be null or empty)
      * @return the trimmed input line
+     * @throws java.util.NoSuchElementException if the input stream has ended
      */
     public static String readLine(String prompt) {
         if (prompt != null && !prompt.isEmpty()) {
             System.out.print(prompt);
         }
-        return SCANNER.nextLine().trim();
+        Scanner sessionScanner = SESSION_SCANNER.get();
+        if (sessionScanner == null) {
+            return SCANNER.nextLine().trim();
+        }
+        SessionOutput.flushCurrent();
+        InputWaitListener listener = INPUT_WAIT_LISTENER.get();
+        if (listener == null) {
+            return sessionScanner.nextLine().trim();
+        }
+        listener.waitStarted();
+        try {
+            return sessionScanner.nextLine().trim();
+        } finally {
+            listener.waitEnded();
+        }
     }
 
     /**
@@ -66,4 +119,19 @@ public final class ConsoleInput {
             System.out.println("Please enter 'y' or 'n'.");
         }
     }
+
+    /**
+     * Receives notice of when a bound session blocks waiting for input.
+     */
+    public interface InputWaitListener {
+        /**
+         * Called right before a read starts waiting for the client.
+         */
+        void waitStarted();
+
+        /**
+         * Called right after the read returns or fails.
+         */
+        void waitEnded();
+    }
 }
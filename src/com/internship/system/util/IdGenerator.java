@@ -2,37 +2,197 @@ package com.internship.system.util;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Generates unique sequential IDs for different entity types.
  * Maintains separate counters for each entity type (e.g., "internship", "application").
+ * Counters are lock-free. Optionally, each thread leases a block of IDs at a
+ * time and hands them out without touching the shared counter; IDs stay unique
+ * but are no longer dense across threads. A thread that is done (e.g. a server
+ * session ending) returns its unused IDs with {@link #release()}, and they are
+ * leased to the next thread that needs a block.
  */
 public class IdGenerator {
-    /** Map of entity type to current counter value. */
-    private final Map<String, Integer> counters = new HashMap<>();
+    /** Map of entity type to its counter and leased blocks. */
+    private final Map<String, Sequence> sequences = new ConcurrentHashMap<>();
+    /** Number of IDs leased per thread at a time (1 disables leasing). */
+    private final int blockSize;
+    /** Blocks currently leased by the calling thread, per entity type. */
+    private final ThreadLocal<Map<String, Block>> leasedBlocks = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Constructs a new IdGenerator handing out dense IDs straight from the shared counters.
+     */
+    public IdGenerator() {
+        this(1);
+    }
+
+    /**
+     * Constructs a new IdGenerator that leases IDs to each thread in blocks.
+     *
+     * @param blockSize number of IDs leased per thread at a time (1 disables leasing)
+     * @throws IllegalArgumentException if blockSize is not positive
+     */
+    public IdGenerator(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+    }
 
     /**
      * Generates the next ID for the specified entity type.
-     * Thread-safe operation.
+     * Thread-safe operation. An ID is claimed from the thread's block with a
+     * single atomic increment, so a block retired by {@link #seed(String, int)}
+     * can never hand out an ID once the seed has returned.
      *
      * @param key the entity type (e.g., "internship", "application")
      * @return the next sequential ID
      */
-    public synchronized int next(String key) {
-        int current = counters.getOrDefault(key, 0) + 1;
-        counters.put(key, current);
-        return current;
+    public int next(String key) {
+        Sequence sequence = sequence(key);
+        if (blockSize == 1) {
+            return sequence.counter.incrementAndGet();
+        }
+        Map<String, Block> blocks = leasedBlocks.get();
+        Block block = blocks.get(key);
+        while (true) {
+            if (block != null) {
+                int id = block.claim();
+                if (id != 0) {
+                    return id;
+                }
+                sequence.live.remove(block);
+            }
+            block = sequence.lease(blockSize);
+            blocks.put(key, block);
+        }
     }
 
     /**
      * Seeds the counter for a given entity type with a minimum value.
      * Useful when loading existing data to ensure IDs don't conflict.
      * Thread-safe operation.
+     * Every block leased or released before the seed is retired, so IDs handed
+     * out after it returns come from blocks above the seeded value. Leased IDs
+     * that were never used are not persisted, so seeding from the highest stored
+     * ID is enough to keep IDs unique across restarts.
      *
      * @param key the entity type
      * @param value the minimum value to set (only sets if higher than current)
      */
-    public synchronized void seed(String key, int value) {
-        counters.put(key, Math.max(counters.getOrDefault(key, 0), value));
+    public void seed(String key, int value) {
+        Sequence sequence = sequence(key);
+        sequence.counter.accumulateAndGet(value, Math::max);
+        sequence.seeds.incrementAndGet();
+        for (Block block : sequence.live) {
+            block.retire();
+            sequence.live.remove(block);
+        }
+        sequence.released.clear();
+    }
+
+    /**
+     * Returns the calling thread's unused leased IDs, for every entity type, so
+     * the next thread needing a block reuses them instead of leaving a gap.
+     * Call when a thread that generated IDs is done, e.g. at the end of a
+     * server session. Does nothing if the thread holds no blocks.
+     */
+    public void release() {
+        Map<String, Block> blocks = leasedBlocks.get();
+        blocks.forEach((key, block) -> {
+            if (block.hasRemaining()) {
+                sequence(key).released.add(block);
+            }
+        });
+        leasedBlocks.remove();
+    }
+
+    private Sequence sequence(String key) {
+        return sequences.computeIfAbsent(key, k -> new Sequence());
+    }
+
+    /**
+     * The shared counter of one entity type and the blocks leased from it.
+     */
+    private static final class Sequence {
+        /** Highest ID handed out or leased. */
+        private final AtomicInteger counter = new AtomicInteger();
+        /** Number of seeds so far, to catch a block leased while a seed was running. */
+        private final AtomicInteger seeds = new AtomicInteger();
+        /** Blocks that may still hand out IDs, retired together on a seed. */
+        private final Set<Block> live = ConcurrentHashMap.newKeySet();
+        /** Blocks with unused IDs returned by threads that are done. */
+        private final Queue<Block> released = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Leases a block to the calling thread, reusing a released one first.
+         * A new block is published to {@link #live} before it is used; if a seed
+         * started meanwhile, it may have missed the block, which is then retired
+         * here and leased again.
+         *
+         * @param blockSize number of IDs in a new block
+         * @return the block
+         */
+        private Block lease(int blockSize) {
+            Block block;
+            while ((block = released.poll()) != null) {
+                if (block.hasRemaining()) {
+                    return block;
+                }
+            }
+            while (true) {
+                int seedsBefore = seeds.get();
+                int last = counter.addAndGet(blockSize);
+                block = new Block(last - blockSize + 1, last);
+                live.add(block);
+                if (seeds.get() == seedsBefore) {
+                    return block;
+                }
+                block.retire();
+                live.remove(block);
+            }
+        }
+    }
+
+    /**
+     * A range of IDs leased to one thread at a time.
+     */
+    private static final class Block {
+        /** Next ID to hand out; past {@link #last} once used up or retired. */
+        private final AtomicInteger next;
+        /** Last ID in the block. */
+        private final int last;
+
+        private Block(int first, int last) {
+            this.next = new AtomicInteger(first);
+            this.last = last;
+        }
+
+        /**
+         * Claims the next ID of the block.
+         *
+         * @return the ID, or 0 if the block is used up or retired
+         */
+        private int claim() {
+            int id = next.getAndIncrement();
+            return id <= last ? id : 0;
+        }
+
+        private boolean hasRemaining() {
+            return next.get() <= last;
+        }
+
+        /**
+         * Stops the block from handing out any more IDs.
+         */
+        private void retire() {
+            next.set(last + 1);
+        }
     }
 }
@@ -0,0 +1,61 @@
+package com.internship.system.util;
+
+/**
+ * Utility class for JSON formatting.
+ * Shared by the HTTP API and the report exports so values are escaped the same way.
+ */
+public final class JsonUtils {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private JsonUtils() {
+    }
+
+    /**
+     * Encodes a string as a JSON string literal.
+     *
+     * @param value the string (null encodes as null)
+     * @return the JSON literal
+     */
+    public static String string(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    /**
+     * Encodes a value as JSON: numbers and booleans as themselves, null as null,
+     * and anything else as the string literal of its string form.
+     *
+     * @param value the value
+     * @return the JSON value
+     */
+    public static String value(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        return string(value.toString());
+    }
+}
@@ -0,0 +1,171 @@
+package com.internship.system.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes report rows to a file one at a time through a buffered writer, as CSV
+ * with a header line, as JSON Lines with one object per line, or as one JSON
+ * array of objects. Nothing is kept per row, so reports of any size are written
+ * in constant memory.
+ */
+public final class ReportWriter implements AutoCloseable {
+    /**
+     * Output file formats.
+     */
+    public enum Format {
+        /** Comma-separated values with a header line. */
+        CSV,
+        /** One JSON object per line, keyed by column name. */
+        JSONL,
+        /** One JSON array holding an object per row, keyed by column name. */
+        JSON;
+
+        /**
+         * Picks the format from a file name: JSONL for {@code .jsonl}, JSON for
+         * {@code .json}, CSV otherwise.
+         *
+         * @param file the output file
+         * @return the format
+         */
+        public static Format forFile(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".jsonl")) {
+                return JSONL;
+            }
+            return name.endsWith(".json") ? JSON : CSV;
+        }
+    }
+
+    /** File being written, for error messages. */
+    private final Path file;
+    /** Buffered writer over the file. */
+    private final BufferedWriter writer;
+    /** Output format. */
+    private final Format format;
+    /** Column names, in output order. */
+    private final List<String> columns;
+    /** Column names encoded as JSON keys, for JSON Lines and JSON. */
+    private final List<String> jsonKeys = new ArrayList<>();
+    /** Number of rows written so far. */
+    private long rowsWritten;
+
+    /**
+     * Creates or truncates a file and writes the CSV header line or opens the JSON array.
+     * If the header cannot be written, the file is closed before the failure is thrown.
+     *
+     * @param file    the output file
+     * @param format  the output format
+     * @param columns the column names, in output order
+     * @throws RuntimeException if the file cannot be opened
+     */
+    public ReportWriter(Path file, Format format, List<String> columns) {
+        this.file = file;
+        this.format = format;
+        this.columns = List.copyOf(columns);
+        for (String column : this.columns) {
+            jsonKeys.add(JsonUtils.string(column) + ":");
+        }
+        try {
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write report to " + file, e);
+        }
+        try {
+            if (format == Format.CSV) {
+                writer.write(CsvUtils.toLine(this.columns));
+                writer.newLine();
+            } else if (format == Format.JSON) {
+                writer.write('[');
+            }
+        } catch (IOException e) {
+            try {
+                writer.close();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw new RuntimeException("Failed to write report to " + file, e);
+        }
+    }
+
+    /**
+     * Writes one row. Numbers and booleans are written as JSON numbers and
+     * booleans; null is written as an empty CSV field or JSON null; anything
+     * else is written as its string form.
+     *
+     * @param values the values, one per column in column order
+     * @throws IllegalArgumentException if the number of values does not match the columns
+     * @throws RuntimeException         if the row cannot be written
+     */
+    public void writeRow(List<?> values) {
+        if (values.size() != columns.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + columns.size() + " values but got " + values.size());
+        }
+        try {
+            if (format == Format.CSV) {
+                List<String> fields = new ArrayList<>(values.size());
+                for (Object value : values) {
+                    fields.add(value == null ? "" : value.toString());
+                }
+                writer.write(CsvUtils.toLine(fields));
+                writer.newLine();
+            } else {
+                if (format == Format.JSON) {
+                    if (rowsWritten > 0) {
+                        writer.write(',');
+                    }
+                    writer.newLine();
+                }
+                writer.write('{');
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(jsonKeys.get(i));
+                    writer.write(JsonUtils.value(values.get(i)));
+                }
+                writer.write('}');
+                if (format == Format.JSONL) {
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write report to " + file, e);
+        }
+        rowsWritten++;
+    }
+
+    /**
+     * Gets the number of rows written so far, not counting the CSV header.
+     *
+     * @return rows written
+     */
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * Closes the JSON array, if any, then flushes and closes the file.
+     *
+     * @throws RuntimeException if the file cannot be written, flushed or closed
+     */
+    @Override
+    public void close() {
+        try (writer) {
+            if (format == Format.JSON) {
+                writer.newLine();
+                writer.write(']');
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write report to " + file, e);
+        }
+    }
+}
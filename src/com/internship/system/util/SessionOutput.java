@@ -0,0 +1,265 @@
+package com.internship.system.util;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Routes System.out to a per-thread print stream.
+ * Views print through System.out; once {@link #install()} has been called, a
+ * thread that has bound its own stream (a server session) prints to its own
+ * PrintStream, and every other thread keeps printing to the original console.
+ * Every print method is forwarded before any lock is taken, so the monitor of
+ * the shared System.out object is never held: a session blocked writing to a
+ * slow client holds only its own stream's lock and cannot stall other sessions.
+ */
+public final class SessionOutput extends PrintStream {
+    /** Print stream bound to the calling thread's session, if any. */
+    private static final ThreadLocal<PrintStream> SESSION_STREAM = new ThreadLocal<>();
+    /** Whether System.out has already been replaced. */
+    private static boolean installed;
+
+    /** Stream used by threads without a session. */
+    private final PrintStream fallback;
+
+    /**
+     * Constructs a new SessionOutput.
+     *
+     * @param fallback the stream used by threads without a session
+     */
+    private SessionOutput(PrintStream fallback) {
+        super(fallback, false, StandardCharsets.UTF_8);
+        this.fallback = fallback;
+    }
+
+    /**
+     * Replaces System.out with a stream that routes to the calling thread's session.
+     * Calling it more than once has no further effect.
+     */
+    public static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        System.setOut(new SessionOutput(System.out));
+        installed = true;
+    }
+
+    /**
+     * Binds the calling thread to its own print stream over the given output.
+     * Output is buffered and flushed whenever the session waits for input.
+     *
+     * @param out the session's output stream
+     */
+    public static void bind(OutputStream out) {
+        SESSION_STREAM.set(new PrintStream(new BufferedOutputStream(out), false, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Flushes and unbinds the calling thread's print stream.
+     */
+    public static void unbind() {
+        try {
+            flushCurrent();
+        } finally {
+            SESSION_STREAM.remove();
+        }
+    }
+
+    /**
+     * Flushes pending output of the calling thread's session, under that
+     * session's own stream lock only.
+     *
+     * @throws UncheckedIOException if the session's output can no longer be written
+     */
+    public static void flushCurrent() {
+        PrintStream out = SESSION_STREAM.get();
+        if (out == null) {
+            System.out.flush();
+            return;
+        }
+        if (out.checkError()) {
+            throw new UncheckedIOException(new IOException("Session output failed"));
+        }
+    }
+
+    private PrintStream target() {
+        PrintStream out = SESSION_STREAM.get();
+        return out == null ? fallback : out;
+    }
+
+    @Override
+    public void flush() {
+        target().flush();
+    }
+
+    @Override
+    public void close() {
+        target().close();
+    }
+
+    @Override
+    public boolean checkError() {
+        return target().checkError();
+    }
+
+    @Override
+    public void write(int b) {
+        target().write(b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        target().write(bytes, offset, length);
+    }
+
+    @Override
+    public void write(byte[] bytes) throws IOException {
+        target().write(bytes);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes) {
+        target().writeBytes(bytes);
+    }
+
+    @Override
+    public void print(boolean b) {
+        target().print(b);
+    }
+
+    @Override
+    public void print(char c) {
+        target().print(c);
+    }
+
+    @Override
+    public void print(int i) {
+        target().print(i);
+    }
+
+    @Override
+    public void print(long l) {
+        target().print(l);
+    }
+
+    @Override
+    public void print(float f) {
+        target().print(f);
+    }
+
+    @Override
+    public void print(double d) {
+        target().print(d);
+    }
+
+    @Override
+    public void print(char[] s) {
+        target().print(s);
+    }
+
+    @Override
+    public void print(String s) {
+        target().print(s);
+    }
+
+    @Override
+    public void print(Object obj) {
+        target().print(obj);
+    }
+
+    @Override
+    public void println() {
+        target().println();
+    }
+
+    @Override
+    public void println(boolean x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(char x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(int x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(long x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(float x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(double x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(char[] x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(String x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(Object x) {
+        target().println(x);
+    }
+
+    @Override
+    public PrintStream printf(String format, Object... args) {
+        target().printf(format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream printf(Locale l, String format, Object... args) {
+        target().printf(l, format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream format(String format, Object... args) {
+        target().format(format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream format(Locale l, String format, Object... args) {
+        target().format(l, format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq) {
+        target().append(csq);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq, int start, int end) {
+        target().append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(char c) {
+        target().append(c);
+        return this;
+    }
+}
@@ -0,0 +1,63 @@
+package com.internship.system.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the first {@code k} items of a stream according to an ordering, using a
+ * bounded heap instead of sorting the whole stream.
+ * Offering n items costs O(n log k) time and O(k) memory.
+ *
+ * @param <T> the type of items
+ */
+public class TopK<T> {
+    /** Maximum number of items kept. */
+    private final int k;
+    /** Ordering of the result (first item is the "best"). */
+    private final Comparator<? super T> order;
+    /** Heap whose head is the worst item kept so far. */
+    private final PriorityQueue<T> heap;
+
+    /**
+     * Constructs a new TopK.
+     *
+     * @param k     maximum number of items to keep (must be positive)
+     * @param order ordering of the result
+     * @throws IllegalArgumentException if k is not positive
+     */
+    public TopK(int k, Comparator<? super T> order) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.min(k, 1024) + 1, order.reversed());
+    }
+
+    /**
+     * Offers an item, keeping it only if it is among the first k seen so far.
+     *
+     * @param item the item to offer
+     */
+    public void offer(T item) {
+        if (heap.size() < k) {
+            heap.add(item);
+        } else if (order.compare(item, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(item);
+        }
+    }
+
+    /**
+     * Gets the kept items in result order.
+     *
+     * @return list of at most k items, sorted by the ordering
+     */
+    public List<T> toSortedList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
@@ -3,8 +3,10 @@ package com.internship.system.view;
 import com.internship.system.controller.AuthController;
 import com.internship.system.controller.CompanyController;
 import com.internship.system.model.Application;
+import com.internship.system.model.DecisionResult;
 import com.internship.system.model.FilterCriteria;
 import com.internship.system.model.Internship;
+import com.internship.system.model.Page;
 import com.internship.system.model.enums.ApplicationStatus;
 import com.internship.system.model.enums.InternshipLevel;
 import com.internship.system.model.enums.InternshipStatus;
@@ -25,6 +27,9 @@ import java.util.Map;
  * applications.
  */
 public class CompanyView {
+    /** Number of internships shown per page when managing internships. */
+    private static final int PAGE_SIZE = 10;
+
     /** Controller for company operations. */
     private final CompanyController companyController;
     /** Controller for authentication. */
@@ -86,16 +91,22 @@ public class CompanyView {
     }
 
     private void handleManageInternships() {
+        String pageCursor = null;
         boolean managing = true;
         while (managing) {
-            List<Internship> internships = companyController.getInternships(filterCriteria);
-            if (internships.isEmpty()) {
+            Page<Internship> page = companyController.getInternships(filterCriteria, PAGE_SIZE, pageCursor);
+            if (page.isEmpty()) {
+                if (pageCursor != null) {
+                    pageCursor = null;
+                    continue;
+                }
                 System.out.println();
                 System.out.println("No internships match the current filters.");
                 System.out.println();
                 return;
             }
 
+            List<Internship> internships = page.getItems();
             System.out.println();
             System.out.println("--- Company Internships ---");
             for (Internship internship : internships) {
@@ -108,9 +119,13 @@ public class CompanyView {
                         internship.getSlots(),
                         internship.getConfirmedOffers());
             }
+            if (page.hasNext()) {
+                System.out.println("More internships available. Enter 'n' to view the next page.");
+            }
 
             System.out.println();
             int internshipId;
+            boolean showNextPage = false;
 
             while (true) {
                 String input = ConsoleInput.readLine("Enter Internship ID to manage (or press Enter to go back): ");
@@ -119,6 +134,12 @@ public class CompanyView {
                     return;
                 }
 
+                if (input.trim().equalsIgnoreCase("n") && page.hasNext()) {
+                    showNextPage = true;
+                    internshipId = -1;
+                    break;
+                }
+
                 try {
                     internshipId = Integer.parseInt(input.trim());
                 } catch (NumberFormatException e) {
@@ -137,6 +158,11 @@ public class CompanyView {
                 }
             }
 
+            if (showNextPage) {
+                pageCursor = page.getNextCursor().orElse(null);
+                continue;
+            }
+
             System.out.println();
             System.out.println("1. Update Internship Details");
             System.out.println("2. Toggle Visibility");
@@ -255,14 +281,15 @@ public class CompanyView {
         System.out.println("Enter new values or leave blank to keep current filter.");
         System.out.println();
 
-        String statusStr = ConsoleInput.readLine("Filter by Status (PENDING, APPROVED, REJECTED, FILLED): ")
+        String statusStr = ConsoleInput.readLine("Filter by Status (PENDING, APPROVED, REJECTED, FILLED, CLOSED): ")
                 .toUpperCase();
         InternshipStatus status = statusStr.isEmpty() ? null : InternshipStatus.valueOf(statusStr);
 
         String levelStr = ConsoleInput.readLine("Filter by Level (BASIC, ADVANCED): ").toUpperCase();
         InternshipLevel level = levelStr.isEmpty() ? null : InternshipLevel.valueOf(levelStr);
 
-        String major = ConsoleInput.readLine("Filter by Preferred Major: ");
+        String major = CompletionPrompt.readFilterValue("Filter by Preferred Major: ", "major",
+                companyController::completeMajors);
 
         String dateStr = ConsoleInput.readLine("Closing Date Before (YYYY-MM-DD): ");
         LocalDate closingDate = null;
@@ -277,7 +304,7 @@ public class CompanyView {
         filterCriteria = FilterCriteria.builder()
                 .status(status)
                 .level(level)
-                .preferredMajor(major.isEmpty() ? null : major)
+                .preferredMajor(major)
                 .closingDateBefore(closingDate)
                 .build();
         System.out.println();
@@ -381,11 +408,22 @@ public class CompanyView {
             int applicationId;
 
             while (true) {
-                String input = ConsoleInput.readLine("Enter Application ID to process (or press Enter to go back): ");
+                String input = ConsoleInput.readLine(
+                        "Enter Application ID to process, 'b' for batch, 'c' for rank-and-cut (or press Enter to go back): ");
                 if (input.isBlank()) {
                     System.out.println("Returning to main menu.");
                     return;
                 }
+                if (input.equalsIgnoreCase("b")) {
+                    handleBatchApplicationDecision();
+                    applicationId = -1;
+                    break;
+                }
+                if (input.equalsIgnoreCase("c")) {
+                    handleRankAndCut(internshipTitles);
+                    applicationId = -1;
+                    break;
+                }
 
                 try {
                     applicationId = Integer.parseInt(input.trim());
@@ -405,6 +443,10 @@ public class CompanyView {
                 }
             }
 
+            if (applicationId < 0) {
+                continue;
+            }
+
             System.out.println();
             System.out.println("1. Approve Application (Offer Extended)");
             System.out.println("2. Reject Application");
@@ -445,6 +487,80 @@ public class CompanyView {
         }
     }
 
+    private void handleBatchApplicationDecision() {
+        List<Integer> applicationIds = IdListPrompt.readIds(
+                "Enter Application IDs separated by commas or spaces: ", "Application ID");
+        if (applicationIds.isEmpty()) {
+            System.out.println("No Application IDs entered. Operation cancelled.");
+            return;
+        }
+        String actionInput = ConsoleInput.readLine("Offer or reject? (o/r, or press Enter to cancel): ");
+        ApplicationStatus newStatus;
+        if (actionInput.equalsIgnoreCase("o")) {
+            newStatus = ApplicationStatus.SUCCESSFUL_PENDING;
+        } else if (actionInput.equalsIgnoreCase("r")) {
+            newStatus = ApplicationStatus.UNSUCCESSFUL;
+        } else {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+
+        int changed = companyController.processApplications(applicationIds, newStatus);
+        System.out.println();
+        System.out.printf("%d of %d application(s) updated to %s.%n", changed, applicationIds.size(), newStatus);
+        if (changed < applicationIds.size()) {
+            System.out.println("Skipped applications were not pending, not yours, or beyond the open slots.");
+        }
+        System.out.println();
+    }
+
+    private void handleRankAndCut(Map<Integer, String> internshipTitles) {
+        String internshipInput = ConsoleInput.readLine("Enter Internship ID (or press Enter to cancel): ");
+        int internshipId;
+        try {
+            internshipId = Integer.parseInt(internshipInput.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+        if (!internshipTitles.containsKey(internshipId)) {
+            System.out.println("Invalid Internship ID. Operation cancelled.");
+            return;
+        }
+
+        String offersInput = ConsoleInput.readLine("Number of applicants to offer: ");
+        int offers;
+        try {
+            offers = Integer.parseInt(offersInput.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number. Operation cancelled.");
+            return;
+        }
+        if (offers < 0) {
+            System.out.println("Number of offers cannot be negative. Operation cancelled.");
+            return;
+        }
+
+        List<Integer> ranking = IdListPrompt.readIds(
+                "Enter Application IDs in ranked order (or press Enter to rank by submission order): ", "Application ID");
+        System.out.println("Pending applications ranked below them will be rejected.");
+        String confirm = ConsoleInput.readLine("Proceed? (y/n): ");
+        if (!confirm.equalsIgnoreCase("y")) {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+
+        DecisionResult result = companyController.rankAndCut(internshipId, ranking, offers);
+        System.out.println();
+        System.out.printf("%d offer(s) made and %d application(s) rejected for %s.%n",
+                result.getOffersMade(), result.getRejected(), internshipTitles.get(internshipId));
+        if (result.getLeftPending() > 0) {
+            System.out.printf("%d top-ranked application(s) left PENDING: no open slot left for another offer.%n",
+                    result.getLeftPending());
+        }
+        System.out.println();
+    }
+
     private void handleChangePassword() {
         System.out.println();
         String newPassword = ConsoleInput.readLine("Enter new password (or press Enter to cancel): ");
@@ -0,0 +1,68 @@
+package com.internship.system.view;
+
+import com.internship.system.util.ConsoleInput;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Resolves a typed filter value against the values that exist, so a prefix or a
+ * value in the wrong case still filters by a real company name or major instead
+ * of matching nothing.
+ */
+final class CompletionPrompt {
+    /** Maximum number of completions listed to pick from. */
+    private static final int MAX_COMPLETIONS = 10;
+
+    private CompletionPrompt() {
+    }
+
+    /**
+     * Reads a filter value and completes it. A value matching a known value
+     * (ignoring case) or completing to exactly one is used as that value; several
+     * completions are listed to pick from, Enter keeping the value as typed.
+     *
+     * @param prompt    the prompt to display
+     * @param label     what the value is, e.g. "major"
+     * @param completer gives known values starting with a prefix, up to a limit
+     * @return the value to filter by, or null if left blank
+     */
+    static String readFilterValue(String prompt, String label, BiFunction<String, Integer, List<String>> completer) {
+        String typed = ConsoleInput.readLine(prompt);
+        if (typed.isEmpty()) {
+            return null;
+        }
+        List<String> completions = completer.apply(typed, MAX_COMPLETIONS + 1);
+        for (String completion : completions) {
+            if (completion.equalsIgnoreCase(typed)) {
+                return completion;
+            }
+        }
+        if (completions.isEmpty()) {
+            System.out.println("No " + label + " starts with \"" + typed + "\"; filtering by it as typed.");
+            return typed;
+        }
+        if (completions.size() == 1) {
+            System.out.println("Using " + label + ": " + completions.get(0));
+            return completions.get(0);
+        }
+        int shown = Math.min(MAX_COMPLETIONS, completions.size());
+        System.out.println("Matching " + label + "s:");
+        for (int i = 0; i < shown; i++) {
+            System.out.printf("%d. %s%n", i + 1, completions.get(i));
+        }
+        if (completions.size() > shown) {
+            System.out.println("(more matches; type a longer prefix to narrow them down)");
+        }
+        String choice = ConsoleInput.readLine("Select a number (or press Enter to filter by \"" + typed + "\"): ");
+        try {
+            int index = Integer.parseInt(choice);
+            if (index >= 1 && index <= shown) {
+                return completions.get(index - 1);
+            }
+        } catch (NumberFormatException ex) {
+            // Fall through and keep the value as typed.
+        }
+        return typed;
+    }
+}
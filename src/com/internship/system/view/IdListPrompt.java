@@ -0,0 +1,39 @@
+package com.internship.system.view;
+
+import com.internship.system.util.ConsoleInput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a list of numeric IDs typed on one line, separated by commas or
+ * spaces, for the bulk actions of every view.
+ */
+final class IdListPrompt {
+
+    private IdListPrompt() {
+    }
+
+    /**
+     * Reads IDs in the order typed. Tokens that are not numbers are reported and skipped.
+     *
+     * @param prompt the prompt to display
+     * @param label  what the IDs are, e.g. "Application ID"
+     * @return the IDs read, empty if none were entered
+     */
+    static List<Integer> readIds(String prompt, String label) {
+        List<Integer> ids = new ArrayList<>();
+        String idsInput = ConsoleInput.readLine(prompt);
+        for (String token : idsInput.split("[,\\s]+")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            try {
+                ids.add(Integer.parseInt(token));
+            } catch (NumberFormatException e) {
+                System.out.println("Skipping invalid " + label + ": " + token);
+            }
+        }
+        return ids;
+    }
+}
@@ -2,24 +2,44 @@ package com.internship.system.view;
 
 import com.internship.system.controller.AuthController;
 import com.internship.system.controller.StaffController;
+import com.internship.system.model.AllocationReport;
+import com.internship.system.model.AllocationResult;
 import com.internship.system.model.Application;
 import com.internship.system.model.FilterCriteria;
+import com.internship.system.model.ImportReport;
 import com.internship.system.model.Internship;
+import com.internship.system.model.Page;
+import com.internship.system.model.PlacementDashboard;
 import com.internship.system.model.enums.InternshipLevel;
 import com.internship.system.model.enums.InternshipStatus;
 import com.internship.system.model.user.CareerCenterStaff;
 import com.internship.system.model.user.CompanyRepresentative;
 import com.internship.system.util.ConsoleInput;
+import com.internship.system.util.ReportWriter;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * View class for career center staff interface.
  * Handles display and user interaction for managing approvals and reports.
  */
 public class StaffView {
+    /** Number of internships shown per page in reports. */
+    private static final int PAGE_SIZE = 20;
+    /** Maximum number of rejected rows listed after a bulk import. */
+    private static final int MAX_REJECTED_ROWS_SHOWN = 20;
+    /** Maximum number of internships listed in an allocation dry run. */
+    private static final int MAX_ALLOCATION_ROWS_SHOWN = 20;
+    /** Maximum number of internships listed in a bulk decision preview. */
+    private static final int MAX_BULK_PREVIEW_ROWS_SHOWN = 20;
+    /** Maximum number of keyword search results shown. */
+    private static final int SEARCH_RESULT_LIMIT = 20;
+
     /** Controller for staff operations. */
     private final StaffController staffController;
     /** Controller for authentication. */
@@ -59,7 +79,12 @@ public class StaffView {
                         running = false;
                     }
                 }
-                case 7 -> running = false;
+                case 7 -> handleBulkImport();
+                case 8 -> handlePlacementAllocation();
+                case 9 -> handleKeywordSearch();
+                case 10 -> handlePlacementDashboard();
+                case 11 -> handleExportReport();
+                case 12 -> running = false;
                 default -> System.out.println("Invalid option. Please try again.");
             }
         }
@@ -76,7 +101,12 @@ public class StaffView {
         System.out.println("4. View Internships");
         System.out.println("5. Set/Update Filters");
         System.out.println("6. Change Password");
-        System.out.println("7. Logout");
+        System.out.println("7. Bulk Import from CSV");
+        System.out.println("8. Run Placement Allocation");
+        System.out.println("9. Search Internships by Keyword");
+        System.out.println("10. View Placement Dashboard");
+        System.out.println("11. Export Report to File");
+        System.out.println("12. Logout");
     }
 
     private void handleManagePendingReps() {
@@ -190,14 +220,20 @@ public class StaffView {
             }
 
             System.out.println();
-            int internshipId;
+            int internshipId = -1;
+            boolean bulk = false;
 
             while (true) {
-                String input = ConsoleInput.readLine("Enter Internship ID to process (or press Enter to go back): ");
+                String input = ConsoleInput.readLine(
+                        "Enter Internship ID to process, 'b' for bulk actions (or press Enter to go back): ");
                 if (input.isBlank()) {
                     System.out.println("Returning to main menu.");
                     return;
                 }
+                if (input.equalsIgnoreCase("b")) {
+                    bulk = true;
+                    break;
+                }
 
                 try {
                     internshipId = Integer.parseInt(input.trim());
@@ -217,6 +253,11 @@ public class StaffView {
                 }
             }
 
+            if (bulk) {
+                handleBulkInternshipDecision();
+                continue;
+            }
+
             System.out.println();
             System.out.println("1. Approve Internship");
             System.out.println("2. Reject Internship");
@@ -266,6 +307,154 @@ public class StaffView {
         }
     }
 
+    private void handleBulkInternshipDecision() {
+        System.out.println();
+        System.out.println("--- Bulk Internship Decision ---");
+        System.out.println("1. By list of Internship IDs");
+        System.out.println("2. All pending internships matching current filters");
+        System.out.println();
+        String scopeInput = ConsoleInput.readLine("Select scope (or press Enter to cancel): ");
+        if (!scopeInput.equals("1") && !scopeInput.equals("2")) {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+
+        List<Integer> internshipIds = new ArrayList<>();
+        if (scopeInput.equals("1")) {
+            internshipIds.addAll(IdListPrompt.readIds(
+                    "Enter Internship IDs separated by commas or spaces: ", "Internship ID"));
+            if (internshipIds.isEmpty()) {
+                System.out.println("No Internship IDs entered. Operation cancelled.");
+                return;
+            }
+        } else {
+            List<Internship> matching = staffController.getPendingInternships(filterCriteria);
+            if (matching.isEmpty()) {
+                System.out.println("No pending internships match the current filters.");
+                return;
+            }
+            System.out.printf("%d pending internship(s) match the current filters:%n", matching.size());
+            for (Internship internship : matching) {
+                if (internshipIds.size() < MAX_BULK_PREVIEW_ROWS_SHOWN) {
+                    System.out.printf("  ID: %d | Title: %s | Company: %s%n",
+                            internship.getInternshipId(), internship.getTitle(), internship.getCompanyName());
+                }
+                internshipIds.add(internship.getInternshipId());
+            }
+            if (matching.size() > MAX_BULK_PREVIEW_ROWS_SHOWN) {
+                System.out.println("  ... and " + (matching.size() - MAX_BULK_PREVIEW_ROWS_SHOWN) + " more");
+            }
+        }
+
+        String actionInput = ConsoleInput.readLine("Approve or reject? (a/r, or press Enter to cancel): ");
+        boolean approve;
+        if (actionInput.equalsIgnoreCase("a")) {
+            approve = true;
+        } else if (actionInput.equalsIgnoreCase("r")) {
+            approve = false;
+        } else {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+
+        if (scopeInput.equals("2")) {
+            String confirm = ConsoleInput.readLine(String.format("%s these %d internship(s)? (y/n): ",
+                    approve ? "Approve" : "Reject", internshipIds.size()));
+            if (!confirm.equalsIgnoreCase("y")) {
+                System.out.println("Operation cancelled.");
+                return;
+            }
+        }
+
+        int changed = approve
+                ? staffController.approveInternships(internshipIds)
+                : staffController.rejectInternships(internshipIds);
+        System.out.println();
+        System.out.printf("%d pending internship(s) %s.%n", changed, approve ? "approved and made visible" : "rejected");
+        System.out.println();
+    }
+
+    private void handleBulkImport() {
+        System.out.println();
+        System.out.println("--- Bulk Import from CSV ---");
+        System.out.println("1. Students (student_list.csv layout)");
+        System.out.println("2. Company Representatives (company_representative_list.csv layout)");
+        System.out.println("3. Internships (internships.csv layout, new IDs assigned)");
+        System.out.println();
+        String kindInput = ConsoleInput.readLine("Select what to import (or press Enter to cancel): ");
+        if (!kindInput.equals("1") && !kindInput.equals("2") && !kindInput.equals("3")) {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+        String pathInput = ConsoleInput.readLine("Enter path to CSV file (first line is a header): ");
+        if (pathInput.isBlank()) {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+
+        ImportReport report;
+        try {
+            Path file = Path.of(pathInput.trim());
+            report = switch (kindInput) {
+                case "1" -> staffController.importStudents(file);
+                case "2" -> staffController.importCompanyRepresentatives(file);
+                default -> staffController.importInternships(file);
+            };
+        } catch (RuntimeException e) {
+            System.out.println();
+            System.out.println("Import failed: " + e.getMessage());
+            System.out.println();
+            return;
+        }
+
+        System.out.println();
+        System.out.println(report.summary());
+        List<String> rejected = report.getRejectedRows();
+        for (int i = 0; i < Math.min(rejected.size(), MAX_REJECTED_ROWS_SHOWN); i++) {
+            System.out.println("  " + rejected.get(i));
+        }
+        if (rejected.size() > MAX_REJECTED_ROWS_SHOWN) {
+            System.out.println("  ... and " + (rejected.size() - MAX_REJECTED_ROWS_SHOWN) + " more rejected row(s)");
+        }
+        System.out.println();
+    }
+
+    private void handlePlacementAllocation() {
+        System.out.println();
+        System.out.println("--- Placement Allocation (dry run) ---");
+        AllocationReport report = staffController.planAllocation();
+        System.out.println(report.summary());
+        if (report.getOfferCount() == 0) {
+            System.out.println("Nothing to allocate.");
+            System.out.println();
+            return;
+        }
+        int shown = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : report.getOffersByInternship().entrySet()) {
+            if (shown == MAX_ALLOCATION_ROWS_SHOWN) {
+                System.out.println("  ... and " + (report.getOffersByInternship().size() - shown) + " more internship(s)");
+                break;
+            }
+            System.out.printf("  Internship ID: %d | Title: %s | Company: %s | Offers to Application IDs: %s%n",
+                    entry.getKey(),
+                    staffController.getTitleForInternship(entry.getKey()),
+                    staffController.getCompanyNameForInternship(entry.getKey()),
+                    entry.getValue());
+            shown++;
+        }
+        System.out.println("Unmatched applications stay PENDING.");
+        String confirm = ConsoleInput.readLine("Make these offers? (y/n): ");
+        if (!confirm.equalsIgnoreCase("y")) {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+
+        AllocationResult result = staffController.commitAllocation(report);
+        System.out.println();
+        System.out.println(result.summary() + ".");
+        System.out.println();
+    }
+
     private void handleManageWithdrawalRequests() {
         boolean managing = true;
         while (managing) {
@@ -299,14 +488,20 @@ public class StaffView {
             }
 
             System.out.println();
-            int applicationId;
+            int applicationId = -1;
+            boolean bulk = false;
 
             while (true) {
-                String input = ConsoleInput.readLine("Enter Application ID to process (or press Enter to go back): ");
+                String input = ConsoleInput.readLine(
+                        "Enter Application ID to process, 'b' for bulk actions (or press Enter to go back): ");
                 if (input.isBlank()) {
                     System.out.println("Returning to main menu.");
                     return;
                 }
+                if (input.equalsIgnoreCase("b")) {
+                    bulk = true;
+                    break;
+                }
 
                 try {
                     applicationId = Integer.parseInt(input.trim());
@@ -326,6 +521,11 @@ public class StaffView {
                 }
             }
 
+            if (bulk) {
+                handleBulkWithdrawalDecision(requests);
+                continue;
+            }
+
             System.out.println();
             System.out.println("1. Approve Withdrawal");
             System.out.println("2. Reject Withdrawal");
@@ -375,9 +575,53 @@ public class StaffView {
         }
     }
 
+    private void handleBulkWithdrawalDecision(List<Application> requests) {
+        System.out.println();
+        System.out.println("--- Bulk Withdrawal Decision ---");
+        System.out.println("1. By list of Application IDs");
+        System.out.println("2. All listed withdrawal requests");
+        System.out.println();
+        String scopeInput = ConsoleInput.readLine("Select scope (or press Enter to cancel): ");
+        if (!scopeInput.equals("1") && !scopeInput.equals("2")) {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+
+        List<Integer> applicationIds = new ArrayList<>();
+        if (scopeInput.equals("1")) {
+            applicationIds.addAll(IdListPrompt.readIds(
+                    "Enter Application IDs separated by commas or spaces: ", "Application ID"));
+            if (applicationIds.isEmpty()) {
+                System.out.println("No Application IDs entered. Operation cancelled.");
+                return;
+            }
+        } else {
+            for (Application application : requests) {
+                applicationIds.add(application.getApplicationId());
+            }
+        }
+
+        String actionInput = ConsoleInput.readLine("Approve or reject? (a/r, or press Enter to cancel): ");
+        int changed;
+        boolean approve;
+        if (actionInput.equalsIgnoreCase("a")) {
+            approve = true;
+            changed = staffController.approveWithdrawalRequests(applicationIds);
+        } else if (actionInput.equalsIgnoreCase("r")) {
+            approve = false;
+            changed = staffController.rejectWithdrawalRequests(applicationIds);
+        } else {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+        System.out.println();
+        System.out.printf("%d withdrawal request(s) %s.%n", changed, approve ? "approved" : "rejected");
+        System.out.println();
+    }
+
     private void handleGenerateReport() {
-        List<Internship> report = staffController.generateReport(filterCriteria);
-        if (report.isEmpty()) {
+        Page<Internship> page = staffController.generateReport(filterCriteria, PAGE_SIZE, null);
+        if (page.isEmpty()) {
             System.out.println();
             System.out.println("No internships found for selected filters.");
             System.out.println();
@@ -386,7 +630,52 @@ public class StaffView {
 
         System.out.println();
         System.out.println("--- Internship Report ---");
-        for (Internship internship : report) {
+        while (true) {
+            for (Internship internship : page.getItems()) {
+                System.out.printf(
+                        "ID: %d | Title: %s | Company: %s | Level: %s | Status: %s | Preferred Major: %s | Visible: %s | Closing Date: %s%n",
+                        internship.getInternshipId(),
+                        internship.getTitle(),
+                        internship.getCompanyName(),
+                        internship.getLevel(),
+                        internship.getStatus(),
+                        internship.getPreferredMajor(),
+                        internship.isVisible() ? "Yes" : "No",
+                        internship.getClosingDate() != null ? internship.getClosingDate() : "-");
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            String input = ConsoleInput.readLine("Press Enter for the next page (or 'q' to stop): ");
+            if (input.equalsIgnoreCase("q")) {
+                break;
+            }
+            page = staffController.generateReport(filterCriteria, PAGE_SIZE, page.getNextCursor().orElse(null));
+        }
+        System.out.println();
+        String input = ConsoleInput.readLine("Press Enter to return (or 'p' to show how this report was evaluated): ");
+        if (input.equalsIgnoreCase("p")) {
+            System.out.println();
+            System.out.println("--- Query Plan ---");
+            System.out.println(staffController.explainReport(filterCriteria));
+            System.out.println();
+        }
+    }
+
+    private void handleKeywordSearch() {
+        String keywords = ConsoleInput.readLine("Enter keywords (or press Enter to go back): ");
+        if (keywords.isBlank()) {
+            return;
+        }
+        List<Internship> results = staffController.searchInternships(keywords, filterCriteria, SEARCH_RESULT_LIMIT);
+        System.out.println();
+        if (results.isEmpty()) {
+            System.out.println("No internships match those keywords and the selected filters.");
+            System.out.println();
+            return;
+        }
+        System.out.println("--- Search Results (best match first) ---");
+        for (Internship internship : results) {
             System.out.printf(
                     "ID: %d | Title: %s | Company: %s | Level: %s | Status: %s | Preferred Major: %s | Visible: %s | Closing Date: %s%n",
                     internship.getInternshipId(),
@@ -401,22 +690,111 @@ public class StaffView {
         System.out.println();
     }
 
+    private void handleExportReport() {
+        System.out.println();
+        System.out.println("--- Export Report to File ---");
+        System.out.println("Exports every internship matching the current filters, with its representative");
+        System.out.println("and application counts. Files ending in .jsonl are written as JSON Lines, files");
+        System.out.println("ending in .json as one JSON array, anything else as CSV.");
+        String pathInput = ConsoleInput.readLine("Enter output file path (or press Enter to cancel): ");
+        if (pathInput.isBlank()) {
+            System.out.println("Operation cancelled.");
+            return;
+        }
+
+        Path file = Path.of(pathInput.trim());
+        ReportWriter.Format format = ReportWriter.Format.forFile(file);
+        long start = System.nanoTime();
+        long rows;
+        try {
+            rows = staffController.exportReport(filterCriteria, file, format);
+        } catch (RuntimeException e) {
+            System.out.println();
+            System.out.println("Export failed: " + e.getMessage());
+            System.out.println();
+            return;
+        }
+        System.out.println();
+        System.out.printf("Exported %d row(s) as %s to %s in %d ms.%n",
+                rows, format, file.toAbsolutePath(), (System.nanoTime() - start) / 1_000_000);
+        System.out.println();
+    }
+
+    private void handlePlacementDashboard() {
+        PlacementDashboard dashboard = staffController.getPlacementDashboard();
+        System.out.println();
+        System.out.println("--- Placement Dashboard ---");
+        System.out.println("Internships awaiting approval: " + dashboard.getPendingInternships());
+        System.out.println("Representatives awaiting approval: " + dashboard.getPendingRepresentatives());
+        System.out.println("Withdrawal requests outstanding: " + dashboard.getOutstandingWithdrawals());
+        System.out.printf("Student browse cache: %d hit(s), %d miss(es) (%.0f%% hit rate)%n",
+                staffController.getQueryCacheHits(),
+                staffController.getQueryCacheMisses(),
+                staffController.getQueryCacheHitRate() * 100);
+        System.out.println();
+        System.out.println("Applications by status:");
+        dashboard.getApplicationsByStatus().forEach((status, count) -> System.out.printf("  %s: %d%n", status, count));
+        System.out.println();
+        System.out.println("Fill rate by company (approved internships):");
+        if (dashboard.getCompanies().isEmpty()) {
+            System.out.println("  No approved internships.");
+        }
+        for (PlacementDashboard.CompanyFill company : dashboard.getCompanies()) {
+            System.out.printf("  %s: %d/%d slots filled (%.0f%%) over %d internship(s)%n",
+                    company.getCompanyName(),
+                    company.getConfirmedOffers(),
+                    company.getSlots(),
+                    company.getFillRate() * 100,
+                    company.getInternships());
+        }
+        System.out.println();
+        System.out.println("Demand vs supply by major:");
+        if (dashboard.getMajors().isEmpty()) {
+            System.out.println("  No internships.");
+        }
+        for (PlacementDashboard.MajorBalance major : dashboard.getMajors()) {
+            System.out.printf("  %s: %d pending application(s) for %d open slot(s)%n",
+                    major.getMajor(),
+                    major.getPendingApplications(),
+                    major.getOpenSlots());
+        }
+        System.out.println();
+
+        String input = ConsoleInput.readLine(
+                "Enter an internship ID to see its applications by status (or press Enter to go back): ");
+        if (input.isBlank()) {
+            return;
+        }
+        try {
+            int internshipId = Integer.parseInt(input);
+            System.out.println();
+            System.out.println("Applications for internship " + internshipId + ":");
+            staffController.getApplicationCounts(internshipId)
+                    .forEach((status, count) -> System.out.printf("  %s: %d%n", status, count));
+            System.out.println();
+        } catch (NumberFormatException ex) {
+            System.out.println("Invalid internship ID.");
+        }
+    }
+
     private void handleSetFilters() {
         System.out.println();
         System.out.println("--- Set Internship Filters ---");
         System.out.println("Enter new values or leave blank to keep current filter.");
         System.out.println();
 
-        String statusStr = ConsoleInput.readLine("Filter by Status (PENDING, APPROVED, REJECTED, FILLED): ")
+        String statusStr = ConsoleInput.readLine("Filter by Status (PENDING, APPROVED, REJECTED, FILLED, CLOSED): ")
                 .toUpperCase();
         InternshipStatus status = statusStr.isEmpty() ? null : InternshipStatus.valueOf(statusStr);
 
         String levelStr = ConsoleInput.readLine("Filter by Level (BASIC, ADVANCED): ").toUpperCase();
         InternshipLevel level = levelStr.isEmpty() ? null : InternshipLevel.valueOf(levelStr);
 
-        String major = ConsoleInput.readLine("Filter by Preferred Major: ");
+        String major = CompletionPrompt.readFilterValue("Filter by Preferred Major: ", "major",
+                staffController::completeMajors);
 
-        String company = ConsoleInput.readLine("Filter by Company Name: ");
+        String company = CompletionPrompt.readFilterValue("Filter by Company Name: ", "company",
+                staffController::completeCompanyNames);
 
         String dateStr = ConsoleInput.readLine("Closing Date Before (YYYY-MM-DD): ");
         LocalDate closingDate = null;
@@ -441,8 +819,8 @@ public class StaffView {
         filterCriteria = FilterCriteria.builder()
                 .status(status)
                 .level(level)
-                .preferredMajor(major.isEmpty() ? null : major)
-                .companyName(company.isEmpty() ? null : company)
+                .preferredMajor(major)
+                .companyName(company)
                 .closingDateBefore(closingDate)
                 .visibleOnly(visibleOnly)
                 .build();
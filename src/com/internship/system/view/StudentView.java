@@ -5,13 +5,18 @@ import com.internship.system.controller.AuthController;
 import com.internship.system.model.Application;
 import com.internship.system.model.FilterCriteria;
 import com.internship.system.model.Internship;
+import com.internship.system.model.Page;
+import com.internship.system.model.Recommendation;
 import com.internship.system.model.enums.ApplicationStatus;
 import com.internship.system.model.enums.InternshipLevel;
 import com.internship.system.model.user.Student;
 import com.internship.system.util.ConsoleInput;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 /**
@@ -20,6 +25,13 @@ import java.util.List;
  * internships.
  */
 public class StudentView {
+    /** Number of internships shown per page when browsing. */
+    private static final int PAGE_SIZE = 10;
+    /** Number of internships recommended at a time. */
+    private static final int RECOMMENDATION_COUNT = 10;
+    /** Maximum number of keyword search results shown. */
+    private static final int SEARCH_RESULT_LIMIT = 20;
+
     /** Controller for student operations. */
     private final StudentController studentController;
     /** Controller for authentication. */
@@ -58,7 +70,9 @@ public class StudentView {
                         running = false;
                     }
                 }
-                case 5 -> running = false;
+                case 5 -> handleRecommendations();
+                case 6 -> handleKeywordSearch();
+                case 7 -> running = false;
                 default -> System.out.println("Invalid option. Please try again.");
             }
         }
@@ -74,20 +88,28 @@ public class StudentView {
         System.out.println("2. View and Manage My Applications");
         System.out.println("3. Set/Update Filters");
         System.out.println("4. Change Password");
-        System.out.println("5. Logout");
+        System.out.println("5. Recommended Internships");
+        System.out.println("6. Search Internships by Keyword");
+        System.out.println("7. Logout");
     }
 
     private void handleBrowseAndApply() {
+        String pageCursor = null;
         boolean browsing = true;
         while (browsing) {
-            List<Internship> internships = studentController.getVisibleInternships(filterCriteria);
-            if (internships.isEmpty()) {
+            Page<Internship> page = studentController.getVisibleInternships(filterCriteria, PAGE_SIZE, pageCursor);
+            if (page.isEmpty()) {
+                if (pageCursor != null) {
+                    pageCursor = null;
+                    continue;
+                }
                 System.out.println();
                 System.out.println("No internships available based on your profile and selected filters.");
                 System.out.println();
                 return;
             }
 
+            List<Internship> internships = page.getItems();
             System.out.println();
             System.out.println("--- Available Internships ---");
             for (Internship internship : internships) {
@@ -99,9 +121,13 @@ public class StudentView {
                         internship.getPreferredMajor(),
                         internship.getSlots() - internship.getConfirmedOffers());
             }
+            if (page.hasNext()) {
+                System.out.println("More internships available. Enter 'n' to view the next page.");
+            }
 
             System.out.println();
             int internshipId;
+            boolean showNextPage = false;
 
             while (true) {
                 String input = ConsoleInput.readLine("Enter Internship ID to apply (or press Enter to go back): ");
@@ -110,6 +136,12 @@ public class StudentView {
                     return;
                 }
 
+                if (input.trim().equalsIgnoreCase("n") && page.hasNext()) {
+                    showNextPage = true;
+                    internshipId = -1;
+                    break;
+                }
+
                 try {
                     internshipId = Integer.parseInt(input.trim());
                 } catch (NumberFormatException e) {
@@ -128,6 +160,11 @@ public class StudentView {
                 }
             }
 
+            if (showNextPage) {
+                pageCursor = page.getNextCursor().orElse(null);
+                continue;
+            }
+
             boolean success = studentController.applyForInternship(internshipId);
             System.out.println();
             if (success) {
@@ -140,6 +177,98 @@ public class StudentView {
         }
     }
 
+    private void handleRecommendations() {
+        List<Recommendation> recommendations =
+                studentController.getRecommendedInternships(filterCriteria, RECOMMENDATION_COUNT);
+        if (recommendations.isEmpty()) {
+            System.out.println();
+            System.out.println("No internships to recommend based on your profile, applications and selected filters.");
+            System.out.println();
+            return;
+        }
+
+        System.out.println();
+        System.out.println("--- Recommended Internships ---");
+        for (Recommendation recommendation : recommendations) {
+            Internship internship = recommendation.getInternship();
+            System.out.printf("ID: %d | %s | Company: %s | Level: %s | Slots: %d | Applicants/Slot: %.1f | Closes: %s | Score: %.2f%n",
+                    internship.getInternshipId(),
+                    internship.getTitle(),
+                    internship.getCompanyName(),
+                    internship.getLevel(),
+                    internship.getSlots() - internship.getConfirmedOffers(),
+                    recommendation.getApplicantsPerSlot(),
+                    internship.getClosingDate(),
+                    recommendation.getScore());
+        }
+        System.out.println();
+        promptApply(recommendations.stream().map(Recommendation::getInternship).toList());
+    }
+
+    private void handleKeywordSearch() {
+        String keywords = ConsoleInput.readLine("Enter keywords (or press Enter to go back): ");
+        if (keywords.isBlank()) {
+            return;
+        }
+        List<Internship> results = studentController.searchInternships(keywords, filterCriteria, SEARCH_RESULT_LIMIT);
+        if (results.isEmpty()) {
+            System.out.println();
+            System.out.println("No internships you can apply to match those keywords and your selected filters.");
+            System.out.println();
+            return;
+        }
+
+        System.out.println();
+        System.out.println("--- Search Results ---");
+        for (Internship internship : results) {
+            System.out.printf("ID: %d | %s | Company: %s | Level: %s | Major: %s | Slots: %d%n",
+                    internship.getInternshipId(),
+                    internship.getTitle(),
+                    internship.getCompanyName(),
+                    internship.getLevel(),
+                    internship.getPreferredMajor(),
+                    internship.getSlots() - internship.getConfirmedOffers());
+        }
+        System.out.println();
+        promptApply(results);
+    }
+
+    /**
+     * Lets the student apply to one of the listed internships.
+     *
+     * @param listed the internships shown
+     */
+    private void promptApply(List<Internship> listed) {
+        while (true) {
+            String input = ConsoleInput.readLine("Enter Internship ID to apply (or press Enter to go back): ");
+            if (input.isBlank()) {
+                return;
+            }
+            int internshipId;
+            try {
+                internshipId = Integer.parseInt(input.trim());
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid Internship ID. Please enter a valid number.");
+                continue;
+            }
+            boolean validId = listed.stream()
+                    .anyMatch(internship -> internship.getInternshipId() == internshipId);
+            if (!validId) {
+                System.out.println("Invalid Internship ID. Please try again.");
+                continue;
+            }
+            System.out.println();
+            if (studentController.applyForInternship(internshipId)) {
+                System.out.println("Application submitted successfully.");
+            } else {
+                System.out.println(
+                        "Unable to submit application. Check eligibility, limits, or internship availability.");
+            }
+            System.out.println();
+            return;
+        }
+    }
+
     private void handleSetFilters() {
         System.out.println();
         System.out.println("--- Set Internship Filters ---");
@@ -149,7 +278,8 @@ public class StudentView {
         String levelStr = ConsoleInput.readLine("Filter by Level (BASIC, ADVANCED): ").toUpperCase();
         InternshipLevel level = levelStr.isEmpty() ? null : InternshipLevel.valueOf(levelStr);
 
-        String major = ConsoleInput.readLine("Filter by Preferred Major: ");
+        String major = CompletionPrompt.readFilterValue("Filter by Preferred Major: ", "major",
+                studentController::completeMajors);
 
         String dateStr = ConsoleInput.readLine("Closing Date Before (YYYY-MM-DD): ");
         LocalDate closingDate = null;
@@ -163,7 +293,7 @@ public class StudentView {
 
         filterCriteria = FilterCriteria.builder()
                 .level(level)
-                .preferredMajor(major.isEmpty() ? null : major)
+                .preferredMajor(major)
                 .closingDateBefore(closingDate)
                 .build();
         System.out.println();
@@ -243,6 +373,11 @@ public class StudentView {
 
             if (!canAcceptRejectOffer && !canWithdraw) {
                 System.out.println();
+                int waitlistPosition = studentController.getWaitlistPosition(selectedApplication);
+                if (waitlistPosition > 0) {
+                    System.out.println("Waitlist position: " + waitlistPosition
+                            + " (offered a slot automatically if one frees up)");
+                }
                 System.out.println("No actions available for this application.");
                 System.out.println();
                 continue;
@@ -256,6 +391,9 @@ public class StudentView {
             int withdrawOption = -1;
 
             if (canAcceptRejectOffer) {
+                studentController.getOfferDeadline(selectedApplication).ifPresent(deadline ->
+                        System.out.println("Offer expires: " + LocalDateTime.ofInstant(deadline, ZoneId.systemDefault())
+                                .truncatedTo(ChronoUnit.MINUTES)));
                 acceptOption = optionNumber;
                 System.out.println(optionNumber + ". Accept Offer");
                 optionNumber++;